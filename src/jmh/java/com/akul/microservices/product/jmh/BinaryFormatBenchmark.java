@@ -0,0 +1,90 @@
+package com.akul.microservices.product.jmh;
+
+import com.akul.microservices.product.dto.ProductResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Encoding of one public listing page as JSON, CBOR and Smile, with the
+ * mappers built the way {@code BinaryFormatConfig} builds them. Run with
+ * {@code -prof gc} for allocation per page; the payload size of every
+ * combination is printed once per trial.
+ *
+ * @author Andrii Kulynych
+ * @since 2/12/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    private static final long TOTAL = 100_000;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"12", "100", "1000"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+
+    private Page<ProductResponse> page;
+
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder
+                .json();
+        objectMapper = switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+        List<ProductResponse> content = IntStream.range(0, pageSize)
+                .mapToObj(i -> new ProductResponse("SKU-%06d".formatted(i),
+                        "Product " + i, "Description of product " + i,
+                        BigDecimal.valueOf(1 + i % 1000, 2)))
+                .toList();
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), TOTAL);
+        encoded = objectMapper.writeValueAsBytes(page);
+        System.out.printf("%n%s page of %d: %d bytes%n",
+                format, pageSize, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encodePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public Object decodePage() throws IOException {
+        return objectMapper.readTree(encoded);
+    }
+}
@@ -0,0 +1,57 @@
+package com.akul.microservices.product.jmh;
+
+import com.akul.microservices.product.dto.AdminProductResponse;
+import com.akul.microservices.product.dto.ProductResponse;
+import com.akul.microservices.product.model.Product;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping used by every read endpoint.
+ *
+ * @author Andrii Kulynych
+ * @since 2/5/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        Instant now = Instant.now();
+        product = Product.builder().id(new ObjectId().toHexString())
+                .sku("SKU-000042").name("Benchmark product")
+                .description("A product used for mapping benchmarks")
+                .price(new BigDecimal("199.99")).createdAt(now)
+                .updatedAt(now).enabled(true).build();
+    }
+
+    @Benchmark
+    public ProductResponse productResponse() {
+        return ProductResponse.from(product);
+    }
+
+    @Benchmark
+    public AdminProductResponse adminProductResponse() {
+        return AdminProductResponse.from(product);
+    }
+}
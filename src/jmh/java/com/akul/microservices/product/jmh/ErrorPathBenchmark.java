@@ -0,0 +1,59 @@
+package com.akul.microservices.product.jmh;
+
+import com.akul.microservices.product.exception.GlobalExceptionHandler;
+import com.akul.microservices.product.exception.ProductNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a 404 lookup after the query: exception construction (stack
+ * trace included), the handler's error map and its serialization.
+ *
+ * @author Andrii Kulynych
+ * @since 2/5/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    private GlobalExceptionHandler handler;
+
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public Map<String, Object> handleNotFound() {
+        return handler.handleProductNotFound(
+                new ProductNotFoundException("SKU-MISSING"));
+    }
+
+    @Benchmark
+    public byte[] handleAndSerializeNotFound()
+            throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(handler.handleProductNotFound(
+                new ProductNotFoundException("SKU-MISSING")));
+    }
+}
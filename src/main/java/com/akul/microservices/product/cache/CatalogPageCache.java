@@ -0,0 +1,105 @@
+package com.akul.microservices.product.cache;
+
+import com.akul.microservices.product.config.ProductProperties;
+import com.akul.microservices.product.dto.ProductResponse;
+import com.akul.microservices.product.event.ProductChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the first pages of the public catalog as ready-to-write JSON
+ * bytes together with a strong ETag derived from their content.
+ *
+ * <p>Every product change bumps the catalog version; pages rendered for
+ * an older version are re-rendered on their next request. A fresh page is
+ * served, or answered with 304, without touching Mongo or Jackson.
+ *
+ * <p>The version only follows writes made through this node. Pages also
+ * expire after {@code product.cache.ttl}, like the product cache, so a
+ * replica does not keep serving pages and ETags for writes it never saw.
+ *
+ * @author Andrii Kulynych
+ * @since 1/26/2026
+ */
+@Component
+public class CatalogPageCache {
+
+    private final ObjectMapper objectMapper;
+    private final ProductProperties.CatalogPages config;
+    private final Cache<PageKey, RenderedPage> pages;
+    private final AtomicLong version = new AtomicLong();
+
+    public CatalogPageCache(ObjectMapper objectMapper,
+                            ProductProperties properties) {
+        this.objectMapper = objectMapper;
+        this.config = properties.getCatalogPages();
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(config.getMaxEntries())
+                .expireAfterWrite(properties.getCache().getTtl())
+                .build();
+    }
+
+    public boolean covers(int page, int size) {
+        return config.isEnabled() && page >= 0 && page < config.getMaxPages()
+                && size > 0 && size <= config.getMaxPageSize();
+    }
+
+    public RenderedPage get(int page, int size,
+                            Supplier<Page<ProductResponse>> query) {
+        long current = version.get();
+        PageKey key = new PageKey(page, size);
+        RenderedPage cached = pages.getIfPresent(key);
+        if (cached != null && cached.version() == current) {
+            return cached;
+        }
+        // a bump during rendering leaves an entry that is never served
+        RenderedPage rendered = render(query.get(), current);
+        pages.put(key, rendered);
+        return rendered;
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    private RenderedPage render(Page<ProductResponse> page, long version) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(page);
+            return new RenderedPage(version, body, etag(body));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(body);
+            return '"' + HexFormat.of().formatHex(digest, 0, 16) + '"';
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private record PageKey(int page, int size) {
+    }
+
+    /**
+     * Serialized page and its strong ETag.
+     */
+    public record RenderedPage(long version, byte[] body, String etag) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.akul.microservices.product.cache;
+
+import com.akul.microservices.product.config.ProductProperties;
+import com.akul.microservices.product.dto.ProductResponse;
+import com.akul.microservices.product.event.ProductChangedEvent;
+import com.akul.microservices.product.exception.ProductLoadTimeoutException;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Bounded near-cache of public product lookups keyed by SKU.
+ *
+ * <p>Entries are futures. The first caller for a missing SKU installs a
+ * pending future and runs the load on its own thread; concurrent callers
+ * for the same SKU wait on that future instead of querying Mongo again
+ * (single-flight). A failed or timed-out load completes the future
+ * exceptionally, every waiter sees the same error and Caffeine drops the
+ * entry, so the next request retries.
+ *
+ * <p>Invalidation runs after the Mongo write has completed and removes
+ * pending futures as well, so a value read before a write is never
+ * handed to requests that arrive after it.
+ *
+ * @author Andrii Kulynych
+ * @since 1/21/2026
+ */
+@Component
+public class ProductCache {
+
+    private static final String CACHE_NAME = "product.public";
+
+    private final AsyncCache<String, ProductResponse> cache;
+    private final Duration loadTimeout;
+    private final Counter coalesced;
+
+    public ProductCache(ProductProperties properties,
+                        MeterRegistry meterRegistry) {
+        ProductProperties.Cache config = properties.getCache();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(config.getTtl())
+                .recordStats()
+                .buildAsync();
+        this.loadTimeout = config.getLoadTimeout();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(),
+                CACHE_NAME);
+        this.coalesced = Counter.builder("product.cache.coalesced")
+                .description("Lookups that joined an in-flight load")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    public ProductResponse get(String sku,
+                               Function<String, ProductResponse> loader) {
+        CompletableFuture<ProductResponse> pending = new CompletableFuture<>();
+        CompletableFuture<ProductResponse> entry = join(sku, pending);
+
+        if (entry != pending) {
+            if (!entry.isDone()) {
+                coalesced.increment();
+            }
+            return await(sku, entry);
+        }
+
+        try {
+            ProductResponse product = loader.apply(sku);
+            pending.complete(product);
+            return product;
+        } catch (RuntimeException ex) {
+            pending.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the entry for {@code sku}, installing {@code pending} when
+     * there is none. A failed entry whose removal has not run yet is
+     * replaced rather than handed to a caller that arrived after the
+     * failure.
+     */
+    private CompletableFuture<ProductResponse> join(
+            String sku, CompletableFuture<ProductResponse> pending) {
+        while (true) {
+            CompletableFuture<ProductResponse> entry =
+                    cache.get(sku, (key, executor) -> pending.orTimeout(
+                            loadTimeout.toMillis(), TimeUnit.MILLISECONDS));
+            if (entry == pending || !entry.isCompletedExceptionally()) {
+                return entry;
+            }
+            cache.asMap().remove(sku, entry);
+        }
+    }
+
+    private static ProductResponse await(
+            String sku, CompletableFuture<ProductResponse> entry) {
+        try {
+            return entry.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof TimeoutException) {
+                throw new ProductLoadTimeoutException(sku);
+            }
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the loaded entries among {@code skus} without loading the
+     * missing ones. Bulk lookups do not populate the cache: a bulk put
+     * would bypass the single-flight load that invalidations rely on.
+     */
+    public Map<String, ProductResponse> getAllPresent(
+            Collection<String> skus) {
+        return cache.synchronous().getAllPresent(skus);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.allProducts()) {
+            cache.synchronous().invalidateAll();
+        } else {
+            cache.synchronous().invalidateAll(event.skus());
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.akul.microservices.product.cache;
+
+import com.akul.microservices.product.event.ProductChangedEvent;
+import com.akul.microservices.product.routing.WriteTimestampListener;
+import com.mongodb.MongoException;
+import com.mongodb.MongoServerException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps per-node caches coherent across replicas by following the change
+ * stream of the {@code product} collection and publishing a
+ * {@link ProductChangedEvent} for every change, local or remote.
+ *
+ * <p>The last seen resume token is kept across listener restarts (network
+ * errors, elections). When the server cannot resume from it any more, or
+ * when the stream starts without a token, every cached entry is flushed
+ * because changes may have been missed in between.
+ *
+ * <p>Delete events carry only the {@code _id}, so the listener turns on
+ * change stream pre-images for the collection and reads the SKU from the
+ * document as it was before the delete. Tombstones removed by their TTL
+ * index or by a purge are skipped: their soft delete already evicted the
+ * SKU. Only deletes without a pre-image flush everything.
+ *
+ * @author Andrii Kulynych
+ * @since 1/23/2026
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "product.cache.change-stream",
+        name = "enabled", havingValue = "true")
+public class ProductChangeStreamListener implements SmartLifecycle {
+
+    private static final String COLLECTION = "product";
+    private static final Duration MAX_AWAIT = Duration.ofSeconds(1);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(2);
+
+    /**
+     * InvalidResumeToken, ChangeStreamFatalError, ChangeStreamHistoryLost.
+     */
+    private static final Set<Integer> TOKEN_LOST_CODES =
+            Set.of(260, 280, 286);
+
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WriteTimestampListener writeTimestamps;
+    private final Counter flushes;
+
+    private volatile boolean running;
+    private volatile BsonDocument resumeToken;
+    private Thread worker;
+
+    public ProductChangeStreamListener(MongoTemplate mongoTemplate,
+                                       ApplicationEventPublisher publisher,
+                                       WriteTimestampListener writeTimestamps,
+                                       MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.eventPublisher = publisher;
+        this.writeTimestamps = writeTimestamps;
+        this.flushes = Counter.builder("product.cache.flushes")
+                .description("Full cache flushes caused by change stream "
+                        + "gaps")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        enablePreImages();
+        running = true;
+        worker = Thread.ofPlatform().daemon()
+                .name("product-change-stream")
+                .start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join(MAX_AWAIT.multipliedBy(3).toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    BsonDocument resumeToken() {
+        return resumeToken;
+    }
+
+    void resumeAfter(BsonDocument token) {
+        this.resumeToken = token;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                follow();
+            } catch (MongoServerException ex) {
+                if (TOKEN_LOST_CODES.contains(ex.getCode())) {
+                    log.warn("Cannot resume product change stream ({}), "
+                            + "flushing caches", ex.getErrorCodeName());
+                    resumeToken = null;
+                } else {
+                    log.warn("Product change stream failed", ex);
+                    pause();
+                }
+            } catch (MongoException ex) {
+                log.warn("Product change stream interrupted", ex);
+                pause();
+            }
+        }
+    }
+
+    private void follow() {
+        MongoCollection<Document> collection =
+                mongoTemplate.getCollection(COLLECTION);
+        ChangeStreamIterable<Document> stream = collection.watch()
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .fullDocumentBeforeChange(FullDocumentBeforeChange
+                        .WHEN_AVAILABLE)
+                .maxAwaitTime(MAX_AWAIT.toMillis(), TimeUnit.MILLISECONDS);
+        BsonDocument token = resumeToken;
+        if (token != null) {
+            stream = stream.resumeAfter(token);
+        }
+
+        MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor;
+        try {
+            cursor = stream.cursor();
+        } catch (MongoServerException ex) {
+            if (token == null) {
+                throw ex;
+            }
+            log.warn("Product change stream rejected resume token ({}), "
+                    + "flushing caches", ex.getErrorCodeName());
+            resumeToken = null;
+            return;
+        }
+
+        try (cursor) {
+            if (token == null) {
+                // nothing to resume from: changes may have been missed
+                flush();
+            }
+            while (running) {
+                ChangeStreamDocument<Document> change = cursor.tryNext();
+                if (change != null && !handle(change)) {
+                    // the stream is closed, start a new one from scratch
+                    resumeToken = null;
+                    return;
+                }
+                BsonDocument latest = cursor.getResumeToken();
+                if (latest != null) {
+                    resumeToken = latest;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} when the change closed the stream
+     */
+    private boolean handle(ChangeStreamDocument<Document> change) {
+        if (change.getClusterTime() != null) {
+            // causal reads of this SKU must wait for the other replica's write
+            writeTimestamps.advance(change.getClusterTime());
+        }
+        switch (change.getOperationType()) {
+            case INSERT, UPDATE, REPLACE -> {
+                Document document = change.getFullDocument();
+                String sku = document == null
+                        ? null : document.getString("sku");
+                if (sku == null) {
+                    flush();
+                } else {
+                    eventPublisher.publishEvent(ProductChangedEvent.of(
+                            List.of(sku), Map.of(sku, listing(document))));
+                }
+            }
+            case DELETE -> {
+                Document before = change.getFullDocumentBeforeChange();
+                String sku = before == null ? null : before.getString("sku");
+                if (sku == null) {
+                    flush();
+                } else if (!before.getBoolean("deleted", false)) {
+                    eventPublisher.publishEvent(
+                            ProductChangedEvent.deleted(List.of(sku)));
+                }
+            }
+            case INVALIDATE, DROP, DROP_DATABASE, RENAME -> {
+                return false;
+            }
+            default -> {
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Pre-images are recorded from the moment they are enabled; the
+     * collection already exists because its indexes are created on
+     * startup. Without them every delete flushes the caches.
+     */
+    private void enablePreImages() {
+        try {
+            mongoTemplate.getDb().runCommand(
+                    new Document("collMod", COLLECTION).append(
+                            "changeStreamPreAndPostImages",
+                            new Document("enabled", true)));
+        } catch (MongoException ex) {
+            log.warn("Cannot enable pre-images on {}, deletes will flush "
+                    + "caches", COLLECTION, ex);
+        }
+    }
+
+    private static ProductChangedEvent.Listing listing(Document product) {
+        return new ProductChangedEvent.Listing(product.getString("name"),
+                product.getBoolean("enabled", false)
+                        && !product.getBoolean("deleted", false));
+    }
+
+    private void flush() {
+        flushes.increment();
+        eventPublisher.publishEvent(ProductChangedEvent.allProducts());
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(RETRY_DELAY);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
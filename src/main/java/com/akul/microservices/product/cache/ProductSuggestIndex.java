@@ -0,0 +1,384 @@
+package com.akul.microservices.product.cache;
+
+import com.akul.microservices.product.config.ProductProperties;
+import com.akul.microservices.product.dto.ProductSuggestion;
+import com.akul.microservices.product.event.ProductChangedEvent;
+import com.akul.microservices.product.repository.ProductRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * In-process typeahead over SKU and name prefixes of enabled products.
+ *
+ * <p>Lookups never touch Mongo. They binary-search an immutable snapshot
+ * of lower-cased names and SKUs, kept in two sorted arrays, and merge a
+ * small overlay of products changed since that snapshot was built.
+ * Writes update the overlay from the state they put on the event, so
+ * they pay no extra query. Once it grows past
+ * {@code product.suggest.rebuild-threshold}, or when every product may
+ * have changed, the snapshot is rebuilt in the background.
+ *
+ * @author Andrii Kulynych
+ * @since 2/11/2026
+ */
+@Slf4j
+@Component
+public class ProductSuggestIndex {
+
+    private final ProductRepository productRepository;
+    private final ProductProperties.Suggest config;
+    private final Timer rebuildTimer;
+    private final ExecutorService rebuilder =
+            Executors.newSingleThreadExecutor(Thread.ofVirtual()
+                    .name("product-suggest-rebuild").factory());
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Change> overlay = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public ProductSuggestIndex(ProductRepository productRepository,
+                               ProductProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.config = properties.getSuggest();
+        this.rebuildTimer = Timer.builder("product.suggest.rebuild")
+                .description("Time to rebuild the typeahead snapshot")
+                .register(meterRegistry);
+        Gauge.builder("product.suggest.entries", this,
+                        index -> index.snapshot.products().length)
+                .description("Products in the typeahead snapshot")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduleRebuild();
+    }
+
+    /**
+     * Runs on the writing thread, so it issues no query: the overlay is
+     * updated from the listings the writer put on the event. SKUs it
+     * cannot resolve that way (e.g. enabling a product the index has
+     * never seen) are refetched in the background, a burst of them in one
+     * query.
+     */
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.allProducts()) {
+            scheduleRebuild();
+            return;
+        }
+        long seq = sequence.incrementAndGet();
+        Snapshot current = snapshot;
+        for (String sku : event.skus()) {
+            if (!apply(seq, current, sku, event.listings().get(sku))) {
+                pending.add(sku);
+            }
+        }
+        if (!pending.isEmpty() && refreshPending.compareAndSet(false, true)) {
+            rebuilder.execute(this::refresh);
+        }
+        if (overlay.size() > config.getRebuildThreshold()) {
+            scheduleRebuild();
+        }
+    }
+
+    /**
+     * @return {@code false} when the listing does not tell whether and
+     * under which name the product is now listed
+     */
+    private boolean apply(long seq, Snapshot current, String sku,
+                          ProductChangedEvent.Listing listing) {
+        if (listing == null) {
+            return false;
+        }
+        ProductSuggestion listed = listed(current, sku);
+        boolean enabled;
+        if (listing.enabled() != null) {
+            enabled = listing.enabled();
+        } else if (listed != null) {
+            enabled = true;
+        } else {
+            return false;
+        }
+        if (!enabled) {
+            record(sku, new Change(seq, null));
+            return true;
+        }
+        String name = listing.name() != null ? listing.name()
+                : listed == null ? null : listed.name();
+        if (name == null) {
+            return false;
+        }
+        record(sku, new Change(seq, new ProductSuggestion(sku, name)));
+        return true;
+    }
+
+    /**
+     * A refresh that read Mongo before a later write must not overwrite
+     * the state that write recorded.
+     */
+    private void record(String sku, Change change) {
+        overlay.merge(sku, change,
+                (old, updated) -> old.seq() > updated.seq() ? old : updated);
+    }
+
+    /**
+     * The product as suggestions currently show it, {@code null} when it
+     * is not listed or not known.
+     */
+    private ProductSuggestion listed(Snapshot current, String sku) {
+        Change change = overlay.get(sku);
+        if (change != null) {
+            return change.product();
+        }
+        String key = normalize(sku);
+        for (int i = Snapshot.lowerBound(current.skus(), key);
+             i < current.skus().length && current.skus()[i].equals(key);
+             i++) {
+            ProductSuggestion product =
+                    current.products()[current.skuRefs()[i]];
+            if (product.sku().equals(sku)) {
+                return product;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Products whose SKU or name starts with {@code prefix}, ignoring
+     * case, ordered by name.
+     *
+     * <p>Name matches come out of the name array already in order, so
+     * only the first {@code max} of them can make the result. SKU matches
+     * are in SKU order and are all collected, up to
+     * {@code product.suggest.max-scan}, before sorting.
+     */
+    public List<ProductSuggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        int max = Math.min(limit, config.getMaxResults());
+        if (key.isEmpty() || max < 1) {
+            return List.of();
+        }
+
+        Snapshot current = snapshot;
+        Set<String> seen = new HashSet<>();
+        List<ProductSuggestion> result = new ArrayList<>();
+        collect(current, current.names(), current.nameRefs(), key, max,
+                seen, result);
+        collect(current, current.skus(), current.skuRefs(), key,
+                config.getMaxScan(), seen, result);
+        for (Change change : overlay.values()) {
+            ProductSuggestion product = change.product();
+            if (product != null && matches(product, key)
+                    && seen.add(product.sku())) {
+                result.add(product);
+            }
+        }
+        result.sort(Comparator.comparing(
+                product -> normalize(product.name())));
+        return result.size() > max ? result.subList(0, max) : result;
+    }
+
+    /**
+     * Adds up to {@code max} snapshot products whose key in {@code keys}
+     * starts with {@code key}, skipping those the overlay replaces.
+     */
+    private void collect(Snapshot current, String[] keys, int[] refs,
+                         String key, int max, Set<String> seen,
+                         List<ProductSuggestion> result) {
+        int added = 0;
+        for (int i = Snapshot.lowerBound(keys, key); i < keys.length
+                && keys[i].startsWith(key) && added < max; i++) {
+            ProductSuggestion product = current.products()[refs[i]];
+            if (!overlay.containsKey(product.sku())
+                    && seen.add(product.sku())) {
+                result.add(product);
+                added++;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    void scheduleRebuild() {
+        if (rebuildPending.compareAndSet(false, true)) {
+            rebuilder.execute(this::rebuild);
+        }
+    }
+
+    /**
+     * Changes recorded before the rebuild started are part of the new
+     * snapshot; later ones stay in the overlay.
+     */
+    void rebuild() {
+        rebuildPending.set(false);
+        long start = sequence.incrementAndGet();
+        try {
+            Snapshot rebuilt = rebuildTimer.record(() -> {
+                try (Stream<ProductSuggestion> products =
+                             productRepository.streamSuggestions()) {
+                    return Snapshot.of(products.toList());
+                }
+            });
+            snapshot = rebuilt;
+            overlay.entrySet().removeIf(
+                    entry -> entry.getValue().seq() < start);
+            log.info("Typeahead snapshot rebuilt with {} products",
+                    rebuilt.products().length);
+        } catch (RuntimeException ex) {
+            log.warn("Typeahead snapshot rebuild failed", ex);
+        }
+    }
+
+    /**
+     * Refetches the SKUs changed since the last refresh into the overlay.
+     */
+    void refresh() {
+        refreshPending.set(false);
+        Set<String> skus = new HashSet<>(pending);
+        pending.removeAll(skus);
+        if (skus.isEmpty()) {
+            return;
+        }
+        long seq = sequence.incrementAndGet();
+        try {
+            Set<String> enabled = new HashSet<>();
+            for (ProductSuggestion product
+                    : productRepository.findSuggestionsBySkuIn(skus)) {
+                enabled.add(product.sku());
+                record(product.sku(), new Change(seq, product));
+            }
+            for (String sku : skus) {
+                if (!enabled.contains(sku)) {
+                    record(sku, new Change(seq, null));
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Typeahead refresh of {} products failed, rebuilding",
+                    skus.size(), ex);
+            scheduleRebuild();
+            return;
+        }
+        if (overlay.size() > config.getRebuildThreshold()) {
+            scheduleRebuild();
+        }
+    }
+
+    /**
+     * Waits for refreshes and rebuilds scheduled so far to finish.
+     */
+    void awaitRebuilds() throws InterruptedException, ExecutionException {
+        rebuilder.submit(() -> { }).get();
+    }
+
+    private static boolean matches(ProductSuggestion product, String key) {
+        return normalize(product.sku()).startsWith(key)
+                || normalize(product.name()).startsWith(key);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Change(long seq, ProductSuggestion product) {
+    }
+
+    /**
+     * Every product contributes its name and its SKU as keys, each sorted
+     * in its own array; {@code nameRefs} and {@code skuRefs} map a key
+     * position back to its product.
+     */
+    record Snapshot(String[] names, int[] nameRefs, String[] skus,
+                    int[] skuRefs, ProductSuggestion[] products) {
+
+        static final Snapshot EMPTY = new Snapshot(new String[0],
+                new int[0], new String[0], new int[0],
+                new ProductSuggestion[0]);
+
+        static Snapshot of(List<ProductSuggestion> source) {
+            ProductSuggestion[] products =
+                    source.toArray(ProductSuggestion[]::new);
+            List<Key> names = new ArrayList<>(products.length);
+            List<Key> skus = new ArrayList<>(products.length);
+            for (int i = 0; i < products.length; i++) {
+                skus.add(new Key(normalize(products[i].sku()), i));
+                String name = normalize(products[i].name());
+                if (!name.isEmpty()) {
+                    names.add(new Key(name, i));
+                }
+            }
+            Key[] sortedNames = sorted(names);
+            Key[] sortedSkus = sorted(skus);
+            return new Snapshot(values(sortedNames), refs(sortedNames),
+                    values(sortedSkus), refs(sortedSkus), products);
+        }
+
+        static int lowerBound(String[] keys, String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static Key[] sorted(List<Key> keys) {
+            Key[] entries = keys.toArray(Key[]::new);
+            Arrays.sort(entries, Comparator.comparing(Key::value));
+            return entries;
+        }
+
+        private static String[] values(Key[] entries) {
+            String[] values = new String[entries.length];
+            for (int i = 0; i < entries.length; i++) {
+                values[i] = entries[i].value();
+            }
+            return values;
+        }
+
+        private static int[] refs(Key[] entries) {
+            int[] refs = new int[entries.length];
+            for (int i = 0; i < entries.length; i++) {
+                refs[i] = entries[i].ref();
+            }
+            return refs;
+        }
+    }
+
+    private record Key(String value, int ref) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.akul.microservices.product.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Serves CBOR ({@code application/cbor}) and Smile
+ * ({@code application/x-jackson-smile}) to callers that ask for them in
+ * {@code Accept}. The converters are appended after JSON, so requests
+ * accepting anything, browsers included, still get JSON. Both use the
+ * application's Jackson settings; the CBOR layout is described in
+ * {@code schema/product.cddl}.
+ *
+ * @author Andrii Kulynych
+ * @since 2/12/2026
+ */
+@Configuration
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+    public static final MediaType APPLICATION_SMILE =
+            new MediaType("application", "x-jackson-smile");
+
+    public static final List<MediaType> BINARY_TYPES =
+            List.of(MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> builders;
+
+    public BinaryFormatConfig(
+            ObjectProvider<Jackson2ObjectMapperBuilder> builders) {
+        this.builders = builders;
+    }
+
+    @Override
+    public void extendMessageConverters(
+            List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter ->
+                converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter
+                        instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                builders.getObject().factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                builders.getObject().factory(new SmileFactory()).build()));
+    }
+
+    /**
+     * @return whether the {@code Accept} header names a binary format
+     */
+    public static boolean isRequested(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        return MediaType.parseMediaTypes(accept).stream().anyMatch(type ->
+                BINARY_TYPES.stream().anyMatch(type::equalsTypeAndSubtype));
+    }
+}
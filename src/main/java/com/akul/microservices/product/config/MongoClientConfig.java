@@ -0,0 +1,74 @@
+package com.akul.microservices.product.config;
+
+import com.akul.microservices.product.monitoring.ConnectionPoolWaitListener;
+import com.akul.microservices.product.monitoring.SlowQueryListener;
+import com.akul.microservices.product.routing.WriteTimestampListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoClientConfig.java.
+ *
+ * @author Andrii Kulynych
+ * @since 1/28/2026
+ */
+@Configuration
+public class MongoClientConfig {
+
+    /**
+     * Applies pool limits from {@code product.mongo.pool.*} on top of the
+     * connection string. With virtual threads the pool, not the servlet
+     * thread pool, is what bounds concurrent Mongo work.
+     */
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    MongoClientSettingsBuilderCustomizer connectionPoolCustomizer(
+            ProductProperties properties) {
+        ProductProperties.Pool pool = properties.getMongo().getPool();
+        return builder -> builder.applyToConnectionPoolSettings(settings -> {
+            if (pool.getMaxSize() != null) {
+                settings.maxSize(pool.getMaxSize());
+            }
+            if (pool.getMinSize() != null) {
+                settings.minSize(pool.getMinSize());
+            }
+            if (pool.getMaxWaitTime() != null) {
+                settings.maxWaitTime(pool.getMaxWaitTime().toMillis(),
+                        TimeUnit.MILLISECONDS);
+            }
+            if (pool.getMaxConnecting() != null) {
+                settings.maxConnecting(pool.getMaxConnecting());
+            }
+        });
+    }
+
+    /**
+     * Adds the pool wait timer and the slow-query capture next to the
+     * command and pool metrics Spring Boot registers on its own.
+     */
+    @Bean
+    MongoClientSettingsBuilderCustomizer monitoringCustomizer(
+            ConnectionPoolWaitListener poolWaitListener,
+            ObjectProvider<SlowQueryListener> slowQueryListener) {
+        return builder -> {
+            builder.applyToConnectionPoolSettings(settings ->
+                    settings.addConnectionPoolListener(poolWaitListener));
+            slowQueryListener.ifAvailable(builder::addCommandListener);
+        };
+    }
+
+    /**
+     * Tracks write times for causally consistent public reads.
+     */
+    @Bean
+    MongoClientSettingsBuilderCustomizer writeTimestampCustomizer(
+            WriteTimestampListener writeTimestampListener) {
+        return builder -> builder.addCommandListener(writeTimestampListener);
+    }
+}
@@ -0,0 +1,41 @@
+package com.akul.microservices.product.config;
+
+import com.akul.microservices.product.outbox.FileOutboxSink;
+import com.akul.microservices.product.outbox.InMemoryOutboxSink;
+import com.akul.microservices.product.outbox.LoggingOutboxSink;
+import com.akul.microservices.product.outbox.OutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+
+/**
+ * OutboxConfig.java.
+ *
+ * @author Andrii Kulynych
+ * @since 2/9/2026
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "product.outbox", name = "enabled",
+        havingValue = "true")
+public class OutboxConfig {
+
+    @Bean
+    MongoTransactionManager transactionManager(
+            MongoDatabaseFactory databaseFactory) {
+        return new MongoTransactionManager(databaseFactory);
+    }
+
+    @Bean
+    OutboxSink outboxSink(ProductProperties properties,
+                          ObjectMapper objectMapper) {
+        ProductProperties.Outbox outbox = properties.getOutbox();
+        return switch (outbox.getSink()) {
+            case LOG -> new LoggingOutboxSink(objectMapper);
+            case FILE -> new FileOutboxSink(outbox.getFile(), objectMapper);
+            case MEMORY -> new InMemoryOutboxSink();
+        };
+    }
+}
@@ -0,0 +1,425 @@
+package com.akul.microservices.product.config;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * ProductProperties.java.
+ *
+ * @author Andrii Kulynych
+ * @since 1/12/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "product")
+public class ProductProperties {
+
+    private final Batch batch = new Batch();
+
+    @Getter(AccessLevel.NONE)
+    private final Import importing = new Import();
+
+    private final Export export = new Export();
+
+    private final Cache cache = new Cache();
+
+    private final CatalogPages catalogPages = new CatalogPages();
+
+    private final Lookup lookup = new Lookup();
+
+    private final Scroll scroll = new Scroll();
+
+    private final Search search = new Search();
+
+    private final Suggest suggest = new Suggest();
+
+    private final Stats stats = new Stats();
+
+    private final Changes changes = new Changes();
+
+    private final Outbox outbox = new Outbox();
+
+    private final PriceMigration priceMigration = new PriceMigration();
+
+    private final ReadLimit readLimit = new ReadLimit();
+
+    private final ReadRouting readRouting = new ReadRouting();
+
+    private final Mongo mongo = new Mongo();
+
+    public Import getImport() {
+        return importing;
+    }
+
+    @Data
+    public static class Batch {
+
+        /**
+         * Number of documents sent to Mongo in one unordered bulk write.
+         */
+        private int chunkSize = 1000;
+    }
+
+    @Data
+    public static class Import {
+
+        /**
+         * Number of NDJSON lines buffered before one bulk upsert.
+         */
+        private int chunkSize = 1000;
+
+        /**
+         * Upper bound of per-line errors returned in the import summary.
+         */
+        private int maxReportedErrors = 100;
+
+        /**
+         * Log import progress every N written chunks.
+         */
+        private int progressLogInterval = 50;
+    }
+
+    @Data
+    public static class Export {
+
+        /**
+         * Documents fetched per cursor round trip.
+         */
+        private int cursorBatchSize = 1000;
+
+        /**
+         * Bytes buffered before the response is flushed to the client.
+         */
+        private int bufferSize = 64 * 1024;
+    }
+
+    @Data
+    public static class Cache {
+
+        /**
+         * Maximum number of public product lookups kept per node.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Upper bound on how long an entry lives, even without writes.
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        /**
+         * How long concurrent lookups wait for a shared in-flight load
+         * before failing; the entry is dropped and the next call retries.
+         */
+        private Duration loadTimeout = Duration.ofSeconds(5);
+
+        private final ChangeStream changeStream = new ChangeStream();
+    }
+
+    @Data
+    public static class ChangeStream {
+
+        /**
+         * Follow the product change stream to evict entries written by
+         * other replicas. Requires MongoDB running as a replica set.
+         */
+        private boolean enabled;
+    }
+
+    @Data
+    public static class CatalogPages {
+
+        /**
+         * Serve the first public listing pages from pre-serialized bytes.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Pages {@code 0..maxPages-1} are kept pre-serialized.
+         */
+        private int maxPages = 5;
+
+        /**
+         * Larger page sizes always take the regular query path.
+         */
+        private int maxPageSize = 100;
+
+        /**
+         * Upper bound of cached (page, size) combinations.
+         */
+        private long maxEntries = 200;
+    }
+
+    @Data
+    public static class Lookup {
+
+        /**
+         * Maximum number of distinct SKUs resolved by one lookup call.
+         */
+        private int maxSkus = 100;
+    }
+
+    @Data
+    public static class Scroll {
+
+        /**
+         * Upper bound of products returned per scroll slice.
+         */
+        private int maxPageSize = 100;
+    }
+
+    @Data
+    public static class Search {
+
+        /**
+         * Shorter queries are rejected; they match too much to rank.
+         */
+        private int minQueryLength = 2;
+
+        /**
+         * Upper bound of products returned per search slice.
+         */
+        private int maxPageSize = 100;
+
+        /**
+         * Server-side time limit of one search; broader queries fail
+         * with 400 instead of scanning the collection.
+         */
+        private Duration maxTime = Duration.ofSeconds(2);
+    }
+
+    @Data
+    public static class Suggest {
+
+        /**
+         * Upper bound of suggestions returned per request.
+         */
+        private int maxResults = 20;
+
+        /**
+         * Changed products kept next to the sorted snapshot before it is
+         * rebuilt in the background.
+         */
+        private int rebuildThreshold = 1000;
+
+        /**
+         * SKU prefix matches collected per request before ordering by
+         * name. Only very short prefixes reach it; past it, products
+         * matching by SKU alone may be left out.
+         */
+        private int maxScan = 1000;
+    }
+
+    @Data
+    public static class Stats {
+
+        /**
+         * How long computed statistics are reused; zero disables caching.
+         */
+        private Duration ttl = Duration.ofSeconds(10);
+
+        /**
+         * Upper bound of price histogram buckets per request.
+         */
+        private int maxBuckets = 50;
+    }
+
+    @Data
+    public static class Changes {
+
+        /**
+         * Upper bound of changes returned per request.
+         */
+        private int maxPageSize = 1000;
+
+        /**
+         * The feed ends this long before now, so writes that commit late
+         * with an older {@code updatedAt} are not skipped.
+         */
+        private Duration settleWindow = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Outbox {
+
+        /**
+         * Record every product write as an event in {@code product_outbox}
+         * within the same transaction. Requires MongoDB running as a
+         * replica set.
+         */
+        private boolean enabled;
+
+        /**
+         * Where published events are delivered.
+         */
+        private OutboxSinkType sink = OutboxSinkType.LOG;
+
+        /**
+         * NDJSON file appended to by the {@code file} sink.
+         */
+        private Path file = Path.of("product-outbox.ndjson");
+
+        /**
+         * Events read and delivered per publisher round trip.
+         */
+        private int batchSize = 100;
+
+        /**
+         * How long an idle publisher waits before polling again; local
+         * writes wake it up earlier.
+         */
+        private Duration pollInterval = Duration.ofSeconds(1);
+
+        /**
+         * How long the publisher lease lasts without renewal; another
+         * replica takes over after that.
+         */
+        private Duration leaseTtl = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class PriceMigration {
+
+        /**
+         * Rewrite prices stored as strings to Decimal128 after startup.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Documents rewritten per {@code updateMany}.
+         */
+        private int batchSize = 1000;
+
+        /**
+         * Pause between batches, to leave room for regular traffic.
+         */
+        private Duration pause = Duration.ofMillis(20);
+    }
+
+    public enum OutboxSinkType {
+        LOG,
+        FILE,
+        MEMORY
+    }
+
+    @Data
+    public static class ReadLimit {
+
+        /**
+         * Adaptive concurrency limit on public catalog reads; requests
+         * over the limit are shed with 503 instead of queueing.
+         */
+        private boolean enabled = true;
+
+        private int initialLimit = 50;
+
+        private int minLimit = 8;
+
+        private int maxLimit = 400;
+
+        /**
+         * Short-term over long-term latency ratio tolerated before the
+         * limit shrinks.
+         */
+        private double tolerance = 1.5;
+
+        /**
+         * Weight of each new limit estimate, between 0 and 1.
+         */
+        private double smoothing = 0.2;
+
+        /**
+         * Samples averaged into the long-term (no load) latency.
+         */
+        private int longWindow = 600;
+
+        private int shortWindow = 10;
+    }
+
+    @Data
+    public static class ReadRouting {
+
+        /**
+         * Serve public listing, search, scroll and export reads from
+         * secondaries ({@code secondaryPreferred}). Without secondaries
+         * they fall back to the primary.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Secondaries lagging further behind are not selected. MongoDB
+         * rejects values below 90s.
+         */
+        private Duration maxStaleness = Duration.ofSeconds(90);
+
+        /**
+         * How long written SKUs are read from the primary; {@code null}
+         * uses {@code maxStaleness}, the worst lag a selected secondary
+         * may have. May be lowered to the replication lag actually seen.
+         */
+        private Duration freshWindow;
+
+        /**
+         * Read recently written SKUs from secondaries in a causally
+         * consistent session that waits for the write, instead of
+         * routing them to the primary.
+         */
+        private boolean causalSessions;
+    }
+
+    @Data
+    public static class Mongo {
+
+        private final Pool pool = new Pool();
+
+        private final SlowQuery slowQuery = new SlowQuery();
+    }
+
+    @Data
+    public static class SlowQuery {
+
+        /**
+         * Capture read commands slower than {@code threshold} with their
+         * filter shape and query plan.
+         */
+        private boolean enabled = true;
+
+        private Duration threshold = Duration.ofMillis(200);
+
+        /**
+         * Most recent slow commands kept for the {@code slowqueries}
+         * actuator endpoint.
+         */
+        private int capacity = 100;
+
+        /**
+         * A query shape is explained at most once per interval.
+         */
+        private Duration explainInterval = Duration.ofMinutes(1);
+    }
+
+    /**
+     * Connection pool overrides; unset values keep the driver defaults
+     * or those from the connection string.
+     */
+    @Data
+    public static class Pool {
+
+        private Integer maxSize;
+
+        private Integer minSize;
+
+        /**
+         * How long a request may wait for a free connection.
+         */
+        private Duration maxWaitTime;
+
+        /**
+         * Connections that may be established concurrently.
+         */
+        private Integer maxConnecting;
+    }
+}
@@ -0,0 +1,27 @@
+package com.akul.microservices.product.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Runs the {@code reactive} profile on Reactor Netty. Tomcat is on the
+ * classpath for the servlet deployment, and Boot would otherwise prefer
+ * it for the reactive server as well, so this profile would measure
+ * WebFlux on Tomcat instead of the event-loop stack.
+ *
+ * @author Andrii Kulynych
+ * @since 1/30/2026
+ */
+@Configuration
+@Profile("reactive")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfig {
+
+    @Bean
+    NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
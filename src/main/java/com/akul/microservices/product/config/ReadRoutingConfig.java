@@ -0,0 +1,53 @@
+package com.akul.microservices.product.config;
+
+import com.mongodb.ReadPreference;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReadRoutingConfig.java.
+ *
+ * @author Andrii Kulynych
+ * @since 4/9/2026
+ */
+@Configuration
+public class ReadRoutingConfig {
+
+    public static final String PUBLIC_READ_TEMPLATE = "publicReadTemplate";
+
+    /**
+     * Declared here because a second template makes Spring Boot back off
+     * from its own; repositories and writes keep using this one, which
+     * reads from the primary.
+     */
+    @Bean
+    @Primary
+    MongoTemplate mongoTemplate(MongoDatabaseFactory databaseFactory,
+                                MongoConverter converter) {
+        return new MongoTemplate(databaseFactory, converter);
+    }
+
+    /**
+     * Template for public reads that tolerate bounded staleness.
+     */
+    @Bean(PUBLIC_READ_TEMPLATE)
+    MongoTemplate publicReadTemplate(MongoDatabaseFactory databaseFactory,
+                                     MongoConverter converter,
+                                     ProductProperties properties) {
+        ProductProperties.ReadRouting config = properties.getReadRouting();
+        MongoTemplate template =
+                new MongoTemplate(databaseFactory, converter);
+        if (config.isEnabled()) {
+            template.setReadPreference(ReadPreference.secondaryPreferred(
+                    config.getMaxStaleness().toSeconds(),
+                    TimeUnit.SECONDS));
+        }
+        return template;
+    }
+}
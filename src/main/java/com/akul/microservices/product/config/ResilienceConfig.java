@@ -0,0 +1,56 @@
+package com.akul.microservices.product.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ResilienceConfig.java.
+ *
+ * @author Andrii Kulynych
+ * @since 4/6/2026
+ */
+@Configuration
+public class ResilienceConfig {
+
+    /**
+     * Counts calls rejected by the {@code public}, {@code admin} and
+     * {@code export} bulkheads ({@code product.bulkhead.rejected});
+     * Resilience4j only exports their available and maximum concurrent
+     * calls.
+     */
+    @Bean
+    RegistryEventConsumer<Bulkhead> bulkheadRejectionCounter(
+            MeterRegistry meterRegistry) {
+        return new RegistryEventConsumer<>() {
+
+            @Override
+            public void onEntryAddedEvent(EntryAddedEvent<Bulkhead> event) {
+                Bulkhead bulkhead = event.getAddedEntry();
+                Counter rejected = Counter.builder(
+                                "product.bulkhead.rejected")
+                        .tag("name", bulkhead.getName())
+                        .description("Calls rejected by a full bulkhead")
+                        .register(meterRegistry);
+                bulkhead.getEventPublisher()
+                        .onCallRejected(rejection -> rejected.increment());
+            }
+
+            @Override
+            public void onEntryRemovedEvent(
+                    EntryRemovedEvent<Bulkhead> event) {
+            }
+
+            @Override
+            public void onEntryReplacedEvent(
+                    EntryReplacedEvent<Bulkhead> event) {
+            }
+        };
+    }
+}
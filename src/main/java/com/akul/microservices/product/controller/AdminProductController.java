@@ -1,16 +1,29 @@
 package com.akul.microservices.product.controller;
 
 import com.akul.microservices.product.dto.AdminProductResponse;
+import com.akul.microservices.product.dto.BatchItemResult;
+import com.akul.microservices.product.dto.BatchItemStatus;
+import com.akul.microservices.product.dto.BulkUpdateSummary;
+import com.akul.microservices.product.dto.CursorSlice;
+import com.akul.microservices.product.dto.ImportSummary;
 import com.akul.microservices.product.dto.ProductRequest;
+import com.akul.microservices.product.dto.ProductStats;
 import com.akul.microservices.product.dto.ProductUpdateRequest;
+import com.akul.microservices.product.service.ProductImportService;
+import com.akul.microservices.product.service.ProductScrollService;
 import com.akul.microservices.product.service.ProductService;
+import com.akul.microservices.product.service.ProductStatsService;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -23,6 +36,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -32,11 +47,16 @@ import java.util.List;
  * @since 12/31/2025
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/admin/products")
+@Bulkhead(name = "admin")
 @RequiredArgsConstructor
 public class AdminProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final ProductScrollService productScrollService;
+    private final ProductStatsService productStatsService;
 
     @GetMapping
     public Page<AdminProductResponse> getProducts(
@@ -53,8 +73,28 @@ public class AdminProductController {
         return productService.getAdminProducts(pageable);
     }
 
+    @GetMapping("/scroll")
+    public CursorSlice<AdminProductResponse> scrollProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir
+    ) {
+        Sort.Direction direction = sortDir.equalsIgnoreCase("asc")
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+        return productScrollService.scrollAdminProducts(
+                sortBy, direction, cursor, size);
+    }
+
+    @GetMapping("/stats")
+    public ProductStats getStats(
+            @RequestParam(defaultValue = "10") int buckets) {
+        return productStatsService.getStats(buckets);
+    }
+
     @GetMapping("/{sku}")
-    private AdminProductResponse getProductBySku(@PathVariable  String sku) {
+    public AdminProductResponse getProductBySku(@PathVariable String sku) {
         return productService.getAdminProduct(sku);
     }
 
@@ -67,12 +107,23 @@ public class AdminProductController {
     }
 
     @PostMapping("/batch")
-    @ResponseStatus(HttpStatus.CREATED)
-    public List<AdminProductResponse> createProducts(
+    public ResponseEntity<List<BatchItemResult>> createProducts(
             @RequestBody final List<ProductRequest> products) {
-        return products.stream()
-                .map(productService::createAdminProduct)
-                .toList();
+        List<BatchItemResult> results =
+                productService.createAdminProducts(products);
+        boolean allCreated = results.stream()
+                .allMatch(r -> r.status() == BatchItemStatus.CREATED);
+        return ResponseEntity
+                .status(allCreated ? HttpStatus.CREATED
+                        : HttpStatus.MULTI_STATUS)
+                .body(results);
+    }
+
+    @PostMapping(value = "/import",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ImportSummary importProducts(InputStream body)
+            throws IOException {
+        return productImportService.importNdjson(body);
     }
 
     @PutMapping("/{sku}")
@@ -95,6 +146,16 @@ public class AdminProductController {
         productService.enableProduct(sku);
     }
 
+    @PatchMapping("/batch/disable")
+    public BulkUpdateSummary disableProducts(@RequestBody List<String> skus) {
+        return productService.setEnabled(skus, false);
+    }
+
+    @PatchMapping("/batch/enable")
+    public BulkUpdateSummary enableProducts(@RequestBody List<String> skus) {
+        return productService.setEnabled(skus, true);
+    }
+
     @DeleteMapping("/batch")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteProducts(@RequestBody List<String> skus) {
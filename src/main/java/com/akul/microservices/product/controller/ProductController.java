@@ -1,16 +1,40 @@
 package com.akul.microservices.product.controller;
 
+import com.akul.microservices.product.cache.CatalogPageCache;
+import com.akul.microservices.product.cache.ProductSuggestIndex;
+import com.akul.microservices.product.config.BinaryFormatConfig;
+import com.akul.microservices.product.dto.CursorSlice;
+import com.akul.microservices.product.dto.ProductChanges;
+import com.akul.microservices.product.dto.ProductLookupResponse;
 import com.akul.microservices.product.dto.ProductResponse;
+import com.akul.microservices.product.dto.ProductSuggestion;
+import com.akul.microservices.product.service.ExportFormat;
+import com.akul.microservices.product.service.ProductChangesService;
+import com.akul.microservices.product.service.ProductExportService;
+import com.akul.microservices.product.service.ProductScrollService;
+import com.akul.microservices.product.service.ProductSearchService;
 import com.akul.microservices.product.service.ProductService;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * ProductController.java.
@@ -21,26 +45,127 @@ import org.springframework.web.bind.annotation.RestController;
  */
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/products")
+@Bulkhead(name = "public")
 @RequiredArgsConstructor
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductExportService productExportService;
+    private final ProductScrollService productScrollService;
+    private final ProductSearchService productSearchService;
+    private final ProductChangesService productChangesService;
+    private final CatalogPageCache catalogPageCache;
+    private final ProductSuggestIndex productSuggestIndex;
 
     @GetMapping
-    public Page<ProductResponse> getProducts(
+    public ResponseEntity<?> getProducts(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "12") int size
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false)
+            String accept
     ) {
+        if (minPrice != null || maxPrice != null) {
+            // price ranges are listed in price order, matching the index
+            return ResponseEntity.ok(productService.getPublicProducts(
+                    PageRequest.of(page, size, Sort.by("price", "sku")),
+                    minPrice, maxPrice));
+        }
         Sort sort = Sort.by(
                 Sort.Order.asc("sku"),
                 Sort.Order.asc("name"),
                 Sort.Order.asc("price"),
                 Sort.Order.asc("createdAt")
         );
+        PageRequest pageRequest = PageRequest.of(page, size, sort);
+
+        // pre-rendered pages are JSON; binary formats are encoded per call
+        if (!catalogPageCache.covers(page, size)
+                || BinaryFormatConfig.isRequested(accept)) {
+            return ResponseEntity.ok(
+                    productService.getPublicProducts(pageRequest));
+        }
+
+        CatalogPageCache.RenderedPage rendered = catalogPageCache.get(
+                page, size,
+                () -> productService.getPublicProductsToCache(pageRequest));
+        // a matching If-None-Match is answered with 304 by Spring MVC
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(rendered.etag())
+                .body(rendered.body());
+    }
+
+    @GetMapping("/scroll")
+    public CursorSlice<ProductResponse> scrollProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size
+    ) {
+        return productScrollService.scrollPublicProducts(cursor, size);
+    }
+
+    @GetMapping("/search")
+    public CursorSlice<ProductResponse> searchProducts(
+            @RequestParam String q,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "relevance") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size
+    ) {
+        Sort.Direction direction = sortDir.equalsIgnoreCase("desc")
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
+        return productSearchService.search(q, minPrice, maxPrice, sortBy,
+                direction, cursor, size);
+    }
+
+    @GetMapping("/suggest")
+    public List<ProductSuggestion> suggestProducts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return productSuggestIndex.suggest(q, limit);
+    }
+
+    @GetMapping("/changes")
+    public ProductChanges getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int size
+    ) {
+        return productChangesService.changesSince(since, size);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("products." + exportFormat.extension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        disposition.toString())
+                .body(productExportService.stream(exportFormat));
+    }
+
+    @PostMapping("/lookup")
+    public ProductLookupResponse lookupProducts(
+            @RequestBody List<String> skus) {
+        return productService.lookupPublicProducts(skus);
+    }
 
-        return productService.getPublicProducts(
-                PageRequest.of(page, size, sort));
+    @GetMapping("/lookup")
+    public ProductLookupResponse lookupProductsByParam(
+            @RequestParam("sku") List<String> skus) {
+        return productService.lookupPublicProducts(skus);
     }
 
     @GetMapping("/{sku}")
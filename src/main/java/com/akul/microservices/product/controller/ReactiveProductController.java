@@ -0,0 +1,53 @@
+package com.akul.microservices.product.controller;
+
+import com.akul.microservices.product.dto.ProductResponse;
+import com.akul.microservices.product.service.ReactiveProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Public read API on WebFlux and reactive Mongo. Deployments started with
+ * the {@code reactive} profile serve reads only; admin writes stay on the
+ * servlet stack.
+ *
+ * @author Andrii Kulynych
+ * @since 1/30/2026
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/products")
+@RequiredArgsConstructor
+public class ReactiveProductController {
+
+    private final ReactiveProductService productService;
+
+    @GetMapping
+    public Mono<Page<ProductResponse>> getProducts(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "12") int size
+    ) {
+        Sort sort = Sort.by(
+                Sort.Order.asc("sku"),
+                Sort.Order.asc("name"),
+                Sort.Order.asc("price"),
+                Sort.Order.asc("createdAt")
+        );
+
+        return productService.getPublicProducts(
+                PageRequest.of(page, size, sort));
+    }
+
+    @GetMapping("/{sku}")
+    public Mono<ProductResponse> getProduct(@PathVariable String sku) {
+        return productService.getPublicProductBySku(sku);
+    }
+}
@@ -0,0 +1,33 @@
+package com.akul.microservices.product.dto;
+
+/**
+ * BatchItemResult.java.
+ *
+ * @author Andrii Kulynych
+ * @since 1/12/2026
+ */
+public record BatchItemResult(
+        int index,
+        String sku,
+        BatchItemStatus status,
+        String message,
+        AdminProductResponse product
+) {
+    public static BatchItemResult created(int index,
+                                          AdminProductResponse product) {
+        return new BatchItemResult(index, product.sku(),
+                BatchItemStatus.CREATED, null, product);
+    }
+
+    public static BatchItemResult conflict(int index, String sku,
+                                           String message) {
+        return new BatchItemResult(index, sku,
+                BatchItemStatus.CONFLICT, message, null);
+    }
+
+    public static BatchItemResult invalid(int index, String sku,
+                                          String message) {
+        return new BatchItemResult(index, sku,
+                BatchItemStatus.INVALID, message, null);
+    }
+}
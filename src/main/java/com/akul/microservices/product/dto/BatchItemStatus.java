@@ -0,0 +1,13 @@
+package com.akul.microservices.product.dto;
+
+/**
+ * BatchItemStatus.java.
+ *
+ * @author Andrii Kulynych
+ * @since 1/12/2026
+ */
+public enum BatchItemStatus {
+    CREATED,
+    CONFLICT,
+    INVALID
+}
@@ -0,0 +1,14 @@
+package com.akul.microservices.product.dto;
+
+/**
+ * BulkUpdateSummary.java.
+ *
+ * @author Andrii Kulynych
+ * @since 2/2/2026
+ */
+public record BulkUpdateSummary(
+        int requested,
+        long matched,
+        long modified
+) {
+}
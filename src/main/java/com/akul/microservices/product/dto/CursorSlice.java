@@ -0,0 +1,18 @@
+package com.akul.microservices.product.dto;
+
+import java.util.List;
+
+/**
+ * One slice of a keyset-paginated listing. There is no total count; pass
+ * {@code nextCursor} back to fetch the following slice.
+ *
+ * @author Andrii Kulynych
+ * @since 1/19/2026
+ */
+public record CursorSlice<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
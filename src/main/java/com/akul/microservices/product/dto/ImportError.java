@@ -0,0 +1,10 @@
+package com.akul.microservices.product.dto;
+
+/**
+ * ImportError.java.
+ *
+ * @author Andrii Kulynych
+ * @since 1/14/2026
+ */
+public record ImportError(long line, String sku, String message) {
+}
@@ -0,0 +1,20 @@
+package com.akul.microservices.product.dto;
+
+import java.util.List;
+
+/**
+ * ImportSummary.java.
+ *
+ * @author Andrii Kulynych
+ * @since 1/14/2026
+ */
+public record ImportSummary(
+        long lines,
+        long inserted,
+        long updated,
+        long rejected,
+        long failed,
+        long durationMs,
+        List<ImportError> errors
+) {
+}
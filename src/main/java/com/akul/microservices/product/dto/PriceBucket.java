@@ -0,0 +1,16 @@
+package com.akul.microservices.product.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * PriceBucket.java.
+ *
+ * @author Andrii Kulynych
+ * @since 2/12/2026
+ */
+public record PriceBucket(
+        BigDecimal min,
+        BigDecimal max,
+        long count
+) {
+}
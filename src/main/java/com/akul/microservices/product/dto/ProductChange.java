@@ -0,0 +1,36 @@
+package com.akul.microservices.product.dto;
+
+import com.akul.microservices.product.model.Product;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * One entry of the changes feed. Disabled and deleted products are
+ * tombstones: only {@code sku}, {@code status} and {@code updatedAt} are
+ * set, and downstream copies should drop them.
+ *
+ * @author Andrii Kulynych
+ * @since 2/11/2026
+ */
+public record ProductChange(
+        String sku,
+        ProductChangeStatus status,
+        String name,
+        String description,
+        BigDecimal price,
+        Instant updatedAt
+) {
+    public static ProductChange from(Product product) {
+        if (product.isDeleted() || !product.isEnabled()) {
+            return new ProductChange(product.getSku(), product.isDeleted()
+                    ? ProductChangeStatus.DELETED
+                    : ProductChangeStatus.DISABLED,
+                    null, null, null, product.getUpdatedAt());
+        }
+        return new ProductChange(product.getSku(),
+                ProductChangeStatus.ACTIVE, product.getName(),
+                product.getDescription(), product.getPrice(),
+                product.getUpdatedAt());
+    }
+}
@@ -0,0 +1,13 @@
+package com.akul.microservices.product.dto;
+
+/**
+ * ProductChangeStatus.java.
+ *
+ * @author Andrii Kulynych
+ * @since 2/11/2026
+ */
+public enum ProductChangeStatus {
+    ACTIVE,
+    DISABLED,
+    DELETED
+}
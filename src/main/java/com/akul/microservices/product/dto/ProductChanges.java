@@ -0,0 +1,18 @@
+package com.akul.microservices.product.dto;
+
+import java.util.List;
+
+/**
+ * A slice of the changes feed in {@code updatedAt} order. Pass
+ * {@code watermark} back as {@code since}; keep fetching while
+ * {@code hasMore} is {@code true}.
+ *
+ * @author Andrii Kulynych
+ * @since 2/11/2026
+ */
+public record ProductChanges(
+        List<ProductChange> changes,
+        String watermark,
+        boolean hasMore
+) {
+}
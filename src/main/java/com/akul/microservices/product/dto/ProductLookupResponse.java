@@ -0,0 +1,15 @@
+package com.akul.microservices.product.dto;
+
+import java.util.List;
+
+/**
+ * ProductLookupResponse.java.
+ *
+ * @author Andrii Kulynych
+ * @since 2/3/2026
+ */
+public record ProductLookupResponse(
+        List<ProductResponse> products,
+        List<String> notFound
+) {
+}
@@ -0,0 +1,23 @@
+package com.akul.microservices.product.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * ProductStats.java.
+ *
+ * @author Andrii Kulynych
+ * @since 2/12/2026
+ */
+public record ProductStats(
+        long total,
+        long enabled,
+        long disabled,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        BigDecimal avgPrice,
+        List<PriceBucket> priceHistogram,
+        Instant computedAt
+) {
+}
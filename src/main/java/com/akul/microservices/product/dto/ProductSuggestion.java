@@ -0,0 +1,13 @@
+package com.akul.microservices.product.dto;
+
+/**
+ * ProductSuggestion.java.
+ *
+ * @author Andrii Kulynych
+ * @since 2/11/2026
+ */
+public record ProductSuggestion(
+        String sku,
+        String name
+) {
+}
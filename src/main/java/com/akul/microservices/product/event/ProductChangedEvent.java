@@ -0,0 +1,73 @@
+package com.akul.microservices.product.event;
+
+import com.akul.microservices.product.model.Product;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Published synchronously after products were written, so in-process
+ * caches can drop what they hold for the affected SKUs.
+ *
+ * <p>{@code listings} carries what the writer already knows about the
+ * public state of some of the SKUs, so listeners that keep their own view
+ * (the typeahead) can update it without reading the products back.
+ *
+ * @author Andrii Kulynych
+ * @since 1/21/2026
+ */
+public record ProductChangedEvent(Set<String> skus, boolean allProducts,
+                                  Map<String, Listing> listings) {
+
+    public static ProductChangedEvent of(String sku) {
+        return new ProductChangedEvent(Set.of(sku), false, Map.of());
+    }
+
+    public static ProductChangedEvent of(Collection<String> skus) {
+        return of(skus, Map.of());
+    }
+
+    public static ProductChangedEvent of(Collection<String> skus,
+                                         Map<String, Listing> listings) {
+        return new ProductChangedEvent(Set.copyOf(skus), false,
+                Map.copyOf(listings));
+    }
+
+    public static ProductChangedEvent of(Product product) {
+        return new ProductChangedEvent(Set.of(product.getSku()), false,
+                Map.of(product.getSku(), Listing.of(product)));
+    }
+
+    public static ProductChangedEvent enabled(Collection<String> skus,
+                                              boolean enabled) {
+        Listing listing = new Listing(null, enabled);
+        return of(skus, skus.stream().distinct().collect(
+                Collectors.toMap(Function.identity(), sku -> listing)));
+    }
+
+    /**
+     * Deleted products leave the public views like disabled ones.
+     */
+    public static ProductChangedEvent deleted(Collection<String> skus) {
+        return enabled(skus, false);
+    }
+
+    public static ProductChangedEvent allProducts() {
+        return new ProductChangedEvent(Set.of(), true, Map.of());
+    }
+
+    /**
+     * Public state of a product after the write; {@code null} components
+     * were not changed by it.
+     */
+    public record Listing(String name, Boolean enabled) {
+
+        public static Listing of(Product product) {
+            return new Listing(product.getName(),
+                    product.isEnabled() && !product.isDeleted());
+        }
+    }
+}
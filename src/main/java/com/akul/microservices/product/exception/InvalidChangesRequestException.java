@@ -0,0 +1,14 @@
+package com.akul.microservices.product.exception;
+
+/**
+ * InvalidChangesRequestException.java.
+ *
+ * @author Andrii Kulynych
+ * @since 2/11/2026
+ */
+public class InvalidChangesRequestException extends RuntimeException {
+
+    public InvalidChangesRequestException(String message) {
+        super(message);
+    }
+}
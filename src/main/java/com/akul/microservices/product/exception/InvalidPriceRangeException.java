@@ -0,0 +1,18 @@
+package com.akul.microservices.product.exception;
+
+import java.math.BigDecimal;
+
+/**
+ * InvalidPriceRangeException.java.
+ *
+ * @author Andrii Kulynych
+ * @since 2/13/2026
+ */
+public class InvalidPriceRangeException extends RuntimeException {
+
+    public InvalidPriceRangeException(BigDecimal minPrice,
+                                      BigDecimal maxPrice) {
+        super("minPrice %s is greater than maxPrice %s"
+                .formatted(minPrice, maxPrice));
+    }
+}
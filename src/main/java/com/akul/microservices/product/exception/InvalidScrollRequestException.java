@@ -0,0 +1,14 @@
+package com.akul.microservices.product.exception;
+
+/**
+ * InvalidScrollRequestException.java.
+ *
+ * @author Andrii Kulynych
+ * @since 1/19/2026
+ */
+public class InvalidScrollRequestException extends RuntimeException {
+
+    public InvalidScrollRequestException(String message) {
+        super(message);
+    }
+}
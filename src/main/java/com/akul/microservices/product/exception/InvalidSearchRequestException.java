@@ -0,0 +1,14 @@
+package com.akul.microservices.product.exception;
+
+/**
+ * InvalidSearchRequestException.java.
+ *
+ * @author Andrii Kulynych
+ * @since 2/10/2026
+ */
+public class InvalidSearchRequestException extends RuntimeException {
+
+    public InvalidSearchRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.akul.microservices.product.exception;
+
+/**
+ * LookupLimitExceededException.java.
+ *
+ * @author Andrii Kulynych
+ * @since 2/3/2026
+ */
+public class LookupLimitExceededException extends RuntimeException {
+
+    public LookupLimitExceededException(int requested, int max) {
+        super("Lookup of %d SKUs exceeds the limit of %d"
+                .formatted(requested, max));
+    }
+}
@@ -0,0 +1,14 @@
+package com.akul.microservices.product.exception;
+
+/**
+ * ProductLoadTimeoutException.java.
+ *
+ * @author Andrii Kulynych
+ * @since 2/4/2026
+ */
+public class ProductLoadTimeoutException extends RuntimeException {
+
+    public ProductLoadTimeoutException(String sku) {
+        super("Timed out loading product with SKU '%s'".formatted(sku));
+    }
+}
@@ -0,0 +1,14 @@
+package com.akul.microservices.product.exception;
+
+/**
+ * UnsupportedExportFormatException.java.
+ *
+ * @author Andrii Kulynych
+ * @since 1/16/2026
+ */
+public class UnsupportedExportFormatException extends RuntimeException {
+
+    public UnsupportedExportFormatException(String format) {
+        super("Export format '%s' is not supported".formatted(format));
+    }
+}
@@ -0,0 +1,16 @@
+package com.akul.microservices.product.exception;
+
+/**
+ * Thrown when a watermark is older than the tombstone retention, so
+ * deletions after it may already be gone from the feed.
+ *
+ * @author Andrii Kulynych
+ * @since 2/11/2026
+ */
+public class WatermarkExpiredException extends RuntimeException {
+
+    public WatermarkExpiredException() {
+        super("Watermark is older than the tombstone retention; "
+                + "resync the full catalog");
+    }
+}
@@ -0,0 +1,109 @@
+package com.akul.microservices.product.limit;
+
+import com.akul.microservices.product.config.ProductProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows the latency gradient: while recent
+ * latency stays close to the long-term baseline the limit grows by about
+ * {@code sqrt(limit)} per sample, and once requests start queueing in
+ * Mongo or the connection pool (recent latency rising above
+ * {@code tolerance} times the baseline) it shrinks proportionally.
+ * Callers over the limit are rejected right away, so excess load is shed
+ * rather than queued.
+ *
+ * <p>The limit is only raised while at least half of it is in use;
+ * otherwise a quiet period would let it drift up to the maximum.
+ *
+ * @author Andrii Kulynych
+ * @since 4/6/2026
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int longWindow;
+    private final int shortWindow;
+
+    private volatile double limit;
+    private double longRtt;
+    private double shortRtt;
+    private long samples;
+
+    public AdaptiveConcurrencyLimiter(ProductProperties.ReadLimit config) {
+        this.minLimit = Math.max(1, config.getMinLimit());
+        this.maxLimit = Math.max(minLimit, config.getMaxLimit());
+        this.tolerance = config.getTolerance();
+        this.smoothing = config.getSmoothing();
+        this.longWindow = Math.max(1, config.getLongWindow());
+        this.shortWindow = Math.max(1, config.getShortWindow());
+        this.limit = Math.clamp(config.getInitialLimit(), minLimit,
+                maxLimit);
+    }
+
+    /**
+     * @return {@code true} when the caller may proceed and must call
+     *     {@link #release} afterwards
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param rttNanos request latency, or a negative value when the
+     *     request should not influence the limit (failed or streamed)
+     */
+    public void release(long rttNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (rttNanos > 0) {
+            sample(rttNanos, inFlightBefore);
+        }
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void sample(long rttNanos, int inFlightBefore) {
+        samples++;
+        // plain average while the windows fill up, then exponential
+        longRtt = average(longRtt, rttNanos, longWindow);
+        shortRtt = average(shortRtt, rttNanos, shortWindow);
+
+        // a lasting drop below the baseline (e.g. after a slow period
+        // skewed it) pulls the baseline down faster
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        if (inFlightBefore < limit / 2) {
+            return;
+        }
+        double gradient = Math.clamp(tolerance * longRtt / shortRtt,
+                0.5, 1.0);
+        double estimate = limit * gradient + Math.sqrt(limit);
+        limit = Math.clamp(limit * (1 - smoothing) + estimate * smoothing,
+                minLimit, maxLimit);
+    }
+
+    private double average(double current, long sample, int window) {
+        double factor = samples < window ? 1.0 / samples
+                : 2.0 / (window + 1);
+        return current + (sample - current) * factor;
+    }
+}
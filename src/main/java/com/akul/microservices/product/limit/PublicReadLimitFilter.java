@@ -0,0 +1,118 @@
+package com.akul.microservices.product.limit;
+
+import com.akul.microservices.product.config.ProductProperties;
+import com.akul.microservices.product.exception.GlobalExceptionHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Applies the {@link AdaptiveConcurrencyLimiter} to public catalog reads
+ * ({@code GET /api/v1/products/**}). Rejected requests get 503 with
+ * {@code Retry-After} and the usual error body. Admin calls and streamed
+ * exports are bounded by their own bulkheads instead: an export holds its
+ * connection for minutes and would starve every other read of a slot.
+ *
+ * @author Andrii Kulynych
+ * @since 4/6/2026
+ */
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "product.read-limit", name = "enabled",
+        havingValue = "true", matchIfMissing = true)
+public class PublicReadLimitFilter extends OncePerRequestFilter {
+
+    private static final String PUBLIC_PATH = "/api/v1/products";
+    private static final String EXPORT_PATH = PUBLIC_PATH + "/export";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    public PublicReadLimitFilter(ProductProperties properties,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry) {
+        this.limiter = new AdaptiveConcurrencyLimiter(
+                properties.getReadLimit());
+        this.objectMapper = objectMapper;
+        Gauge.builder("product.read.limit", limiter,
+                        AdaptiveConcurrencyLimiter::limit)
+                .description("Current adaptive limit on public reads")
+                .register(meterRegistry);
+        Gauge.builder("product.read.in.flight", limiter,
+                        AdaptiveConcurrencyLimiter::inFlight)
+                .description("Public reads in progress")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("product.read.rejected")
+                .description("Public reads shed by the adaptive limit")
+                .register(meterRegistry);
+    }
+
+    AdaptiveConcurrencyLimiter limiter() {
+        return limiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !HttpMethod.GET.matches(request.getMethod())
+                || path.equals(EXPORT_PATH)
+                || !(path.equals(PUBLIC_PATH)
+                || path.startsWith(PUBLIC_PATH + "/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain)
+            throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            rejected.increment();
+            reject(response);
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException ex) {
+            limiter.release(-1);
+            throw ex;
+        }
+        // an async handler's latency is unknown here, so it is not sampled
+        limiter.release(!request.isAsyncStarted()
+                && response.getStatus() < 500
+                ? System.nanoTime() - started : -1);
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        Map<String, Object> errorResponse = new LinkedHashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", 503);
+        errorResponse.put("error", "Service Unavailable");
+        errorResponse.put("message",
+                "Too many concurrent catalog reads, retry shortly");
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                GlobalExceptionHandler.RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
@@ -0,0 +1,134 @@
+package com.akul.microservices.product.migration;
+
+import com.akul.microservices.product.config.ProductProperties;
+import com.mongodb.client.MongoCollection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Rewrites prices stored as strings to Decimal128 in the background while
+ * the service keeps serving. Documents are visited in {@code _id} order in
+ * batches; each batch is one {@code updateMany} with a pipeline
+ * {@code $convert}. The {@code $type: "string"} filter skips documents
+ * that were rewritten by a regular write meanwhile, so the job is
+ * idempotent, may run on several replicas, and resumes after a restart by
+ * simply running again. Values that are not numbers are left untouched.
+ *
+ * <p>Until the job has finished, price filters and sorts only see the
+ * documents already stored as Decimal128.
+ *
+ * @author Andrii Kulynych
+ * @since 2/13/2026
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "product.price-migration", name = "enabled",
+        havingValue = "true", matchIfMissing = true)
+public class PriceStorageMigration {
+
+    private static final String COLLECTION = "product";
+    private static final Document STRING_PRICE =
+            new Document("price", new Document("$type", "string"));
+    private static final List<Document> TO_DECIMAL = List.of(
+            new Document("$set", new Document("price",
+                    new Document("$convert", new Document("input", "$price")
+                            .append("to", "decimal")
+                            .append("onError", "$price")))));
+
+    private final MongoTemplate mongoTemplate;
+    private final ProductProperties.PriceMigration config;
+    private final Counter migrated;
+    private final ExecutorService runner =
+            Executors.newSingleThreadExecutor(Thread.ofVirtual()
+                    .name("product-price-migration").factory());
+
+    public PriceStorageMigration(MongoTemplate mongoTemplate,
+                                 ProductProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.config = properties.getPriceMigration();
+        this.migrated = Counter.builder("product.price.migrated")
+                .description("Prices rewritten from string to Decimal128")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        runner.execute(() -> {
+            try {
+                migrate();
+            } catch (RuntimeException ex) {
+                log.warn("Price storage migration stopped; it resumes on "
+                        + "next start", ex);
+            }
+        });
+    }
+
+    /**
+     * @return number of documents rewritten
+     */
+    public long migrate() {
+        MongoCollection<Document> products =
+                mongoTemplate.getCollection(COLLECTION);
+        int batchSize = Math.max(1, config.getBatchSize());
+        long total = 0;
+        ObjectId last = null;
+        while (!Thread.currentThread().isInterrupted()) {
+            Document filter = new Document(STRING_PRICE);
+            if (last != null) {
+                filter.append("_id", new Document("$gt", last));
+            }
+            List<ObjectId> ids = products.find(filter)
+                    .projection(new Document("_id", 1))
+                    .sort(new Document("_id", 1))
+                    .limit(batchSize)
+                    .map(document -> document.getObjectId("_id"))
+                    .into(new ArrayList<>());
+            if (ids.isEmpty()) {
+                break;
+            }
+            long modified = products.updateMany(
+                    new Document(STRING_PRICE).append("_id",
+                            new Document("$in", ids)),
+                    TO_DECIMAL).getModifiedCount();
+            migrated.increment(modified);
+            total += modified;
+            last = ids.getLast();
+            pause();
+        }
+        if (total > 0) {
+            log.info("Price storage migration rewrote {} products", total);
+        }
+        return total;
+    }
+
+    private void pause() {
+        if (config.getPause().isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(config.getPause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+    }
+}
@@ -7,27 +7,68 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 
 @Document(collection = "product")
+@CompoundIndexes({
+        @CompoundIndex(name = Product.PUBLIC_READ_INDEX,
+                def = "{'enabled': 1, 'sku': 1, 'name': 1, 'price': 1, "
+                        + "'createdAt': 1, 'description': 1}"),
+        @CompoundIndex(name = Product.PUBLIC_PRICE_INDEX,
+                def = "{'enabled': 1, 'price': 1, 'sku': 1, 'name': 1, "
+                        + "'createdAt': 1, 'description': 1}"),
+        @CompoundIndex(name = "createdAt_id",
+                def = "{'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = Product.CHANGES_INDEX,
+                def = "{'updatedAt': 1, '_id': 1}")
+})
 @Data
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class Product {
 
+    /**
+     * Covers the public reads: equality on {@code enabled}, the listing
+     * sort, and every field of the public projection.
+     */
+    public static final String PUBLIC_READ_INDEX = "public_read";
+
+    /**
+     * Covers the public listing filtered by a price range: equality on
+     * {@code enabled}, then a range scan over numeric prices.
+     */
+    public static final String PUBLIC_PRICE_INDEX = "public_price";
+
+    /**
+     * Serves the changes feed: range on {@code updatedAt}, ties broken by
+     * {@code _id}.
+     */
+    public static final String CHANGES_INDEX = "updatedAt_id";
+
+    /**
+     * How long a deleted product is kept as a tombstone for the changes
+     * feed before Mongo removes it.
+     */
+    public static final String TOMBSTONE_TTL = "30d";
+
     @Id
     private String id;
 
     @Indexed(unique = true)
     private String sku;
 
+    @TextIndexed(weight = 3)
     private String name;
 
+    @TextIndexed
     private String description;
 
     private BigDecimal price;
@@ -40,4 +81,9 @@ public class Product {
 
     @Builder.Default
     private boolean enabled = true;
+
+    private boolean deleted;
+
+    @Indexed(name = "tombstone_ttl", expireAfter = TOMBSTONE_TTL)
+    private Instant deletedAt;
 }
@@ -0,0 +1,59 @@
+package com.akul.microservices.product.monitoring;
+
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times how long requests wait for a pooled connection
+ * ({@code mongodb.driver.pool.wait}). The pool size and checked-out
+ * gauges come from the Spring Boot Mongo metrics; a growing wait with a
+ * full pool means the pool, not Mongo, bounds latency.
+ *
+ * @author Andrii Kulynych
+ * @since 4/2/2026
+ */
+@Component
+@RequiredArgsConstructor
+public class ConnectionPoolWaitListener implements ConnectionPoolListener {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        timer(event.getConnectionId().getServerId(), "success")
+                .record(event.getElapsedTime(TimeUnit.NANOSECONDS),
+                        TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        timer(event.getServerId(),
+                event.getReason().name().toLowerCase(Locale.ROOT))
+                .record(event.getElapsedTime(TimeUnit.NANOSECONDS),
+                        TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(ServerId serverId, String outcome) {
+        String address = serverId.getAddress().toString();
+        return timers.computeIfAbsent(address + '|' + outcome,
+                key -> Timer.builder("mongodb.driver.pool.wait")
+                        .description("Time spent waiting for a pooled "
+                                + "connection")
+                        .tag("server.address", address)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+    }
+}
@@ -0,0 +1,83 @@
+package com.akul.microservices.product.monitoring;
+
+import org.bson.Document;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * One-line summary of the winning plan in {@code explain} output, e.g.
+ * {@code PROJECTION_COVERED > IXSCAN(public_read)} or
+ * {@code SORT > COLLSCAN}.
+ *
+ * @author Andrii Kulynych
+ * @since 4/2/2026
+ */
+final class QueryPlan {
+
+    static final String UNKNOWN = "unknown";
+
+    private QueryPlan() {
+    }
+
+    static String summarize(Document explain) {
+        Document planner = find(explain, "queryPlanner");
+        if (planner == null) {
+            return UNKNOWN;
+        }
+        Document plan = planner.get("winningPlan", Document.class);
+        if (plan != null && plan.containsKey("queryPlan")) {
+            // slot based engine wraps the classic plan tree
+            plan = plan.get("queryPlan", Document.class);
+        }
+        return plan == null ? UNKNOWN : describe(plan);
+    }
+
+    private static String describe(Document stage) {
+        StringBuilder summary = new StringBuilder(
+                stage.getString("stage"));
+        String index = stage.getString("indexName");
+        if (index != null) {
+            summary.append('(').append(index).append(')');
+        }
+        Document input = stage.get("inputStage", Document.class);
+        if (input != null) {
+            summary.append(" > ").append(describe(input));
+        }
+        List<Document> inputs = stage.getList("inputStages",
+                Document.class, List.of());
+        if (!inputs.isEmpty()) {
+            StringJoiner branches = new StringJoiner(", ", " > [", "]");
+            inputs.forEach(branch -> branches.add(describe(branch)));
+            summary.append(branches);
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Aggregations nest the planner output under their first stage
+     * unless the whole pipeline was pushed down into the query layer.
+     */
+    private static Document find(Document document, String key) {
+        Document found = document.get(key, Document.class);
+        if (found != null) {
+            return found;
+        }
+        for (Object child : document.values()) {
+            if (child instanceof Document nested) {
+                found = find(nested, key);
+            } else if (child instanceof List<?> list) {
+                found = list.stream()
+                        .filter(Document.class::isInstance)
+                        .map(item -> find((Document) item, key))
+                        .filter(Objects::nonNull)
+                        .findFirst().orElse(null);
+            }
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,104 @@
+package com.akul.microservices.product.monitoring;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+import java.util.Set;
+
+/**
+ * Reduces a command to the parts that decide its query plan, with every
+ * literal replaced by {@code "?"}: {@code {"sku": {"$in": "?"}}}. Two
+ * commands that differ only in values have the same shape, which keeps
+ * slow-query records groupable and free of customer data.
+ *
+ * @author Andrii Kulynych
+ * @since 4/2/2026
+ */
+final class QueryShape {
+
+    private static final BsonString PLACEHOLDER = new BsonString("?");
+
+    /**
+     * Operators whose array argument holds sub-expressions, not values.
+     */
+    private static final Set<String> LOGICAL = Set.of("$and", "$or", "$nor");
+
+    private QueryShape() {
+    }
+
+    /**
+     * @return the shape as JSON, or {@code null} for commands that carry
+     *     no filter
+     */
+    static String of(String commandName, BsonDocument command) {
+        BsonDocument shape = new BsonDocument();
+        switch (commandName) {
+            case "find" -> {
+                copy(command, "filter", shape);
+                copyAsIs(command, "sort", shape);
+                copyAsIs(command, "hint", shape);
+            }
+            case "count" -> copy(command, "query", shape);
+            case "distinct" -> {
+                copyAsIs(command, "key", shape);
+                copy(command, "query", shape);
+            }
+            case "findAndModify" -> {
+                copy(command, "query", shape);
+                copyAsIs(command, "sort", shape);
+            }
+            case "aggregate" -> {
+                BsonValue pipeline = command.get("pipeline");
+                if (pipeline != null && pipeline.isArray()) {
+                    shape.put("pipeline", maskEach(pipeline.asArray()));
+                }
+            }
+            default -> {
+                return null;
+            }
+        }
+        return shape.toJson();
+    }
+
+    private static void copy(BsonDocument command, String key,
+                             BsonDocument shape) {
+        BsonValue value = command.get(key);
+        if (value != null) {
+            shape.put(key, mask(value));
+        }
+    }
+
+    private static void copyAsIs(BsonDocument command, String key,
+                                 BsonDocument shape) {
+        BsonValue value = command.get(key);
+        if (value != null) {
+            shape.put(key, value);
+        }
+    }
+
+    /**
+     * Keeps field names and operators. Arrays collapse to a single
+     * placeholder, so {@code $in} lists of any length share one shape,
+     * except under logical operators where each element is an
+     * expression.
+     */
+    private static BsonValue mask(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument masked = new BsonDocument();
+            value.asDocument().forEach((key, nested) -> masked.put(key,
+                    LOGICAL.contains(key) && nested.isArray()
+                            ? maskEach(nested.asArray())
+                            : mask(nested)));
+            return masked;
+        }
+        return PLACEHOLDER;
+    }
+
+    private static BsonArray maskEach(BsonArray array) {
+        BsonArray masked = new BsonArray();
+        array.forEach(element -> masked.add(mask(element)));
+        return masked;
+    }
+}
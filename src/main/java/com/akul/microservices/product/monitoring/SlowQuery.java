@@ -0,0 +1,14 @@
+package com.akul.microservices.product.monitoring;
+
+import java.time.Instant;
+
+/**
+ * A captured slow Mongo command: its filter shape without literals and
+ * the winning plan reported by {@code explain}.
+ *
+ * @author Andrii Kulynych
+ * @since 4/2/2026
+ */
+public record SlowQuery(Instant at, String command, String collection,
+                        long millis, String shape, String plan) {
+}
@@ -0,0 +1,30 @@
+package com.akul.microservices.product.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/slowqueries}: the most recent slow Mongo commands.
+ *
+ * @author Andrii Kulynych
+ * @since 4/2/2026
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "slowqueries")
+@ConditionalOnProperty(prefix = "product.mongo.slow-query", name = "enabled",
+        havingValue = "true", matchIfMissing = true)
+public class SlowQueryEndpoint {
+
+    private final SlowQueryListener listener;
+
+    @ReadOperation
+    public List<SlowQuery> slowQueries() {
+        return listener.recent();
+    }
+}
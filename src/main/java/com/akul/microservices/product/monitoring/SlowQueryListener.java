@@ -0,0 +1,192 @@
+package com.akul.microservices.product.monitoring;
+
+import com.akul.microservices.product.config.ProductProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.client.MongoClient;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records read commands slower than {@code product.mongo.slow-query.threshold}.
+ *
+ * <p>The driver only guarantees the command document during the started
+ * callback, so captured commands are copied there and dropped again when
+ * the reply arrives; writes and {@code getMore} are not captured and cost
+ * a set lookup. Shaping and {@code explain} run on one background thread
+ * with a short queue, each shape is explained at most once per
+ * {@code explainInterval}, and {@code queryPlanner} verbosity never
+ * executes the query again.
+ *
+ * @author Andrii Kulynych
+ * @since 4/2/2026
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "product.mongo.slow-query", name = "enabled",
+        havingValue = "true", matchIfMissing = true)
+public class SlowQueryListener implements CommandListener {
+
+    static final String NOT_EXPLAINED = "not explained";
+
+    private static final Set<String> CAPTURED = Set.of("find", "aggregate",
+            "count", "distinct", "findAndModify");
+
+    /**
+     * Session and transaction fields the {@code explain} command rejects.
+     */
+    private static final Set<String> SESSION_FIELDS = Set.of("lsid",
+            "txnNumber", "autocommit", "startTransaction", "readConcern",
+            "writeConcern");
+
+    private final ObjectProvider<MongoClient> mongoClient;
+    private final MeterRegistry meterRegistry;
+    private final long thresholdNanos;
+    private final int capacity;
+    private final Cache<String, String> plans;
+    private final Map<Integer, BsonDocument> inFlight =
+            new ConcurrentHashMap<>();
+    private final Deque<SlowQuery> recent = new ArrayDeque<>();
+    private final ThreadPoolExecutor explainer = new ThreadPoolExecutor(1, 1,
+            0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16),
+            Thread.ofVirtual().name("slow-query-explain").factory());
+
+    public SlowQueryListener(ObjectProvider<MongoClient> mongoClient,
+                             MeterRegistry meterRegistry,
+                             ProductProperties properties) {
+        ProductProperties.SlowQuery config =
+                properties.getMongo().getSlowQuery();
+        this.mongoClient = mongoClient;
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = config.getThreshold().toNanos();
+        this.capacity = Math.max(1, config.getCapacity());
+        this.plans = Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(config.getExplainInterval())
+                .build();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (CAPTURED.contains(event.getCommandName())) {
+            inFlight.put(event.getRequestId(), event.getCommand().clone());
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        finished(event.getRequestId(), event.getCommandName(),
+                event.getDatabaseName(),
+                event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        finished(event.getRequestId(), event.getCommandName(),
+                event.getDatabaseName(),
+                event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * @return the captured commands, newest first
+     */
+    public List<SlowQuery> recent() {
+        synchronized (recent) {
+            return List.copyOf(recent);
+        }
+    }
+
+    private void finished(int requestId, String commandName,
+                          String database, long elapsedNanos) {
+        if (!CAPTURED.contains(commandName)) {
+            return;
+        }
+        BsonDocument command = inFlight.remove(requestId);
+        if (command == null || elapsedNanos <= thresholdNanos) {
+            return;
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        try {
+            explainer.execute(() -> capture(commandName, database, command,
+                    millis, true));
+        } catch (RejectedExecutionException ex) {
+            capture(commandName, database, command, millis, false);
+        }
+    }
+
+    private void capture(String commandName, String database,
+                         BsonDocument command, long millis,
+                         boolean explain) {
+        BsonValue target = command.get(commandName);
+        String collection = target != null && target.isString()
+                ? target.asString().getValue() : database;
+        String shape = QueryShape.of(commandName, command);
+        String plan = explain
+                ? plans.get(commandName + shape,
+                        key -> explain(database, command))
+                : NOT_EXPLAINED;
+        SlowQuery slowQuery = new SlowQuery(Instant.now(), commandName,
+                collection, millis, shape, plan);
+
+        synchronized (recent) {
+            if (recent.size() == capacity) {
+                recent.removeLast();
+            }
+            recent.addFirst(slowQuery);
+        }
+        meterRegistry.counter("mongodb.slow.commands",
+                "command", commandName, "collection", collection).increment();
+        log.warn("Slow Mongo {} on {} took {} ms, shape {}, plan {}",
+                commandName, collection, millis, shape, plan);
+    }
+
+    private String explain(String database, BsonDocument command) {
+        BsonDocument explained = new BsonDocument();
+        command.forEach((key, value) -> {
+            if (!key.startsWith("$") && !SESSION_FIELDS.contains(key)) {
+                explained.put(key, value);
+            }
+        });
+        try {
+            return QueryPlan.summarize(mongoClient.getObject()
+                    .getDatabase(database)
+                    .runCommand(new BsonDocument("explain", explained)
+                                    .append("verbosity",
+                                            new BsonString("queryPlanner")),
+                            Document.class));
+        } catch (RuntimeException ex) {
+            log.debug("Could not explain slow {} command",
+                    command.getFirstKey(), ex);
+            return QueryPlan.UNKNOWN;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        explainer.shutdownNow();
+    }
+}
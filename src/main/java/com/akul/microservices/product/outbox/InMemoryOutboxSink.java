@@ -0,0 +1,47 @@
+package com.akul.microservices.product.outbox;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps delivered events in memory; meant for tests and local runs.
+ *
+ * @author Andrii Kulynych
+ * @since 2/9/2026
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<OutboxEvent> events = new ArrayList<>();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> batch)
+            throws IOException {
+        if (failures.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+            throw new IOException("Simulated outbox sink failure");
+        }
+        events.addAll(batch);
+    }
+
+    /**
+     * Every event delivered so far, redeliveries included.
+     */
+    public synchronized List<OutboxEvent> events() {
+        return List.copyOf(events);
+    }
+
+    public synchronized void clear() {
+        events.clear();
+        failures.set(0);
+    }
+
+    /**
+     * Rejects the next {@code count} batches, as an unavailable broker
+     * would.
+     */
+    public void failNext(int count) {
+        failures.set(count);
+    }
+}
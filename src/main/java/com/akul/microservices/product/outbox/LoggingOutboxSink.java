@@ -0,0 +1,32 @@
+package com.akul.microservices.product.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Writes every event to the application log as JSON.
+ *
+ * @author Andrii Kulynych
+ * @since 2/9/2026
+ */
+@Slf4j
+public class LoggingOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+
+    public LoggingOutboxSink(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events)
+            throws JsonProcessingException {
+        for (OutboxEvent event : events) {
+            log.info("Product event {}",
+                    objectMapper.writeValueAsString(event));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.akul.microservices.product.outbox;
+
+import com.akul.microservices.product.dto.ProductResponse;
+import com.akul.microservices.product.model.Product;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * A product change recorded in the same transaction as the write itself.
+ * {@code sequence} follows commit order, so consumers can drop events
+ * they have already seen after a redelivery.
+ *
+ * @author Andrii Kulynych
+ * @since 2/9/2026
+ */
+@Document(collection = OutboxEvent.COLLECTION)
+@CompoundIndex(name = "pending", def = "{'publishedAt': 1, 'sequence': 1}")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutboxEvent {
+
+    public static final String COLLECTION = "product_outbox";
+
+    @Id
+    private String id;
+
+    @Indexed(unique = true)
+    private long sequence;
+
+    private String sku;
+
+    private OutboxEventType type;
+
+    /**
+     * Public view after the write; {@code null} for toggles and deletes.
+     */
+    private ProductResponse product;
+
+    private Instant createdAt;
+
+    /**
+     * Published events are kept for a week, then removed by Mongo.
+     */
+    @Indexed(name = "published_ttl", expireAfter = "7d")
+    private Instant publishedAt;
+
+    public static OutboxEvent of(OutboxEventType type, Product product) {
+        return of(type, product.getSku(), ProductResponse.from(product));
+    }
+
+    public static OutboxEvent of(OutboxEventType type, String sku) {
+        return of(type, sku, null);
+    }
+
+    public static OutboxEvent of(OutboxEventType type, String sku,
+                                 ProductResponse product) {
+        return OutboxEvent.builder().type(type).sku(sku).product(product)
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.akul.microservices.product.outbox;
+
+/**
+ * OutboxEventType.java.
+ *
+ * @author Andrii Kulynych
+ * @since 2/9/2026
+ */
+public enum OutboxEventType {
+    CREATED,
+    UPDATED,
+    UPSERTED,
+    ENABLED,
+    DISABLED,
+    DELETED
+}
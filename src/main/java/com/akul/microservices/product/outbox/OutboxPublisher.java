@@ -0,0 +1,207 @@
+package com.akul.microservices.product.outbox;
+
+import com.akul.microservices.product.config.ProductProperties;
+import com.akul.microservices.product.event.ProductChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains {@code product_outbox} to the configured {@link OutboxSink} in
+ * sequence order.
+ *
+ * <p>Only the replica holding the publisher lease delivers, so events of
+ * one SKU are never delivered out of order by two nodes at once. Events
+ * are marked as published only after the sink accepted the batch; a
+ * crash or sink failure in between delivers the batch again, so delivery
+ * is at least once.
+ *
+ * @author Andrii Kulynych
+ * @since 2/9/2026
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "product.outbox", name = "enabled",
+        havingValue = "true")
+public class OutboxPublisher implements SmartLifecycle {
+
+    static final String LEASE_COLLECTION = "product_outbox_lease";
+    private static final String LEASE_ID = "publisher";
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(2);
+
+    private final MongoTemplate mongoTemplate;
+    private final OutboxSink sink;
+    private final ProductProperties.Outbox config;
+    private final String owner = UUID.randomUUID().toString();
+    private final Semaphore wakeUps = new Semaphore(0);
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter published;
+    private final Counter failures;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public OutboxPublisher(MongoTemplate mongoTemplate,
+                           OutboxSink sink,
+                           ProductProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.sink = sink;
+        this.config = properties.getOutbox();
+        this.published = Counter.builder("product.outbox.published")
+                .description("Outbox events accepted by the sink")
+                .register(meterRegistry);
+        this.failures = Counter.builder("product.outbox.failures")
+                .description("Outbox batches that failed and will be "
+                        + "delivered again")
+                .register(meterRegistry);
+        Gauge.builder("product.outbox.lag", lagMillis,
+                        lag -> lag.get() / 1000.0)
+                .description("Age of the oldest unpublished outbox event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform().daemon()
+                .name("product-outbox-publisher")
+                .start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        wakeUps.release();
+        if (worker != null) {
+            try {
+                worker.join(RETRY_DELAY.multipliedBy(2).toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        releaseLease();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Local writes wake the publisher up instead of waiting for the next
+     * poll.
+     */
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        wakeUps.release();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                int delivered = 0;
+                if (acquireLease()) {
+                    delivered = publishBatch();
+                } else {
+                    // the lag is reported by the lease holder
+                    lagMillis.set(0);
+                }
+                if (delivered < config.getBatchSize()) {
+                    await(config.getPollInterval());
+                }
+            } catch (Exception ex) {
+                failures.increment();
+                log.warn("Publishing product outbox failed, retrying", ex);
+                await(RETRY_DELAY);
+            }
+        }
+    }
+
+    /**
+     * @return number of events delivered
+     */
+    int publishBatch() throws Exception {
+        Query pending = Query.query(Criteria.where("publishedAt").is(null))
+                .with(Sort.by("sequence"))
+                .limit(config.getBatchSize());
+        List<OutboxEvent> batch = mongoTemplate.find(pending,
+                OutboxEvent.class);
+        if (batch.isEmpty()) {
+            lagMillis.set(0);
+            return 0;
+        }
+        lagMillis.set(Duration.between(batch.getFirst().getCreatedAt(),
+                Instant.now()).toMillis());
+
+        sink.publish(batch);
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("_id").in(
+                        batch.stream().map(OutboxEvent::getId).toList())),
+                Update.update("publishedAt", Instant.now()),
+                OutboxEvent.class);
+        published.increment(batch.size());
+        return batch.size();
+    }
+
+    /**
+     * Takes or renews the lease. The upsert fails with a duplicate key
+     * while another replica holds an unexpired lease.
+     */
+    boolean acquireLease() {
+        Instant now = Instant.now();
+        Query query = Query.query(Criteria.where("_id").is(LEASE_ID)
+                .orOperator(Criteria.where("owner").is(owner),
+                        Criteria.where("expiresAt").lt(now)));
+        Update update = new Update().set("owner", owner)
+                .set("expiresAt", now.plus(config.getLeaseTtl()));
+        try {
+            mongoTemplate.upsert(query, update, LEASE_COLLECTION);
+            return true;
+        } catch (DuplicateKeyException ex) {
+            return false;
+        }
+    }
+
+    private void releaseLease() {
+        try {
+            mongoTemplate.remove(Query.query(Criteria.where("_id")
+                    .is(LEASE_ID).and("owner").is(owner)), LEASE_COLLECTION);
+        } catch (DataAccessException ex) {
+            log.debug("Could not release the outbox lease", ex);
+        }
+    }
+
+    private void await(Duration timeout) {
+        try {
+            if (wakeUps.tryAcquire(timeout.toMillis(),
+                    TimeUnit.MILLISECONDS)) {
+                wakeUps.drainPermits();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.akul.microservices.product.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of published outbox events.
+ *
+ * @author Andrii Kulynych
+ * @since 2/9/2026
+ */
+public interface OutboxSink {
+
+    /**
+     * Delivers one batch in sequence order. Returning normally
+     * acknowledges every event of the batch; throwing leaves all of them
+     * pending, and the same batch is delivered again.
+     */
+    void publish(List<OutboxEvent> events) throws Exception;
+}
@@ -0,0 +1,158 @@
+package com.akul.microservices.product.outbox;
+
+import com.akul.microservices.product.config.ProductProperties;
+import com.mongodb.MongoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Runs product writes together with their outbox events in one Mongo
+ * transaction. When {@code product.outbox.enabled} is off, writes run as
+ * before and {@link #append} does nothing.
+ *
+ * <p>Sequence numbers come from a single counter document that every
+ * transaction increments. Concurrent transactions therefore conflict on
+ * it and commit one after another, so sequence order is commit order
+ * and the publisher never skips over an event that commits late. Writes
+ * of this node take a local lock instead of aborting each other on the
+ * counter; conflicts with other replicas are retried with a backoff.
+ *
+ * @author Andrii Kulynych
+ * @since 2/9/2026
+ */
+@Slf4j
+@Component
+public class ProductOutbox {
+
+    static final String SEQUENCE_COLLECTION = "product_outbox_sequence";
+    private static final String SEQUENCE_ID = "product";
+    private static final String TRANSIENT_ERROR = "TransientTransactionError";
+    private static final int MAX_ATTEMPTS = 8;
+    private static final long MAX_BACKOFF_MILLIS = 200;
+
+    private final MongoTemplate mongoTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Lock writeLock = new ReentrantLock(true);
+    private final Counter retries;
+
+    public ProductOutbox(MongoTemplate mongoTemplate,
+                         ProductProperties properties,
+                         ObjectProvider<PlatformTransactionManager> managers,
+                         MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.transactionTemplate = properties.getOutbox().isEnabled()
+                ? new TransactionTemplate(managers.getObject()) : null;
+        this.retries = Counter.builder("product.outbox.retries")
+                .description("Write transactions retried after a conflict")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return transactionTemplate != null;
+    }
+
+    /**
+     * Runs {@code work} in a transaction when the outbox is enabled. The
+     * work may run more than once, so it must not keep state between
+     * attempts.
+     */
+    public <T> T write(Supplier<T> work) {
+        if (transactionTemplate == null) {
+            return work.get();
+        }
+        for (int attempt = 1;; attempt++) {
+            writeLock.lock();
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (RuntimeException ex) {
+                if (attempt >= MAX_ATTEMPTS || !isTransient(ex)) {
+                    throw ex;
+                }
+            } finally {
+                writeLock.unlock();
+            }
+            retries.increment();
+            log.debug("Retrying product write transaction, attempt {}",
+                    attempt + 1);
+            backOff(attempt);
+        }
+    }
+
+    public void write(Runnable work) {
+        write(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public void append(OutboxEvent event) {
+        append(List.of(event));
+    }
+
+    /**
+     * Records events in the current transaction, in the given order.
+     */
+    public void append(Collection<OutboxEvent> events) {
+        if (transactionTemplate == null || events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException(
+                    "Outbox events must be appended inside write()");
+        }
+        Document counter = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(SEQUENCE_ID)),
+                new Update().inc("value", events.size()),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                Document.class, SEQUENCE_COLLECTION);
+        long sequence = counter.get("value", Number.class).longValue()
+                - events.size();
+        Instant now = Instant.now();
+        for (OutboxEvent event : events) {
+            event.setSequence(++sequence);
+            event.setCreatedAt(now);
+        }
+        mongoTemplate.insertAll(events);
+    }
+
+    private static void backOff(int attempt) {
+        long bound = Math.min(MAX_BACKOFF_MILLIS, 5L << attempt);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1, bound));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                    "Interrupted while retrying a product write", ex);
+        }
+    }
+
+    private static boolean isTransient(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongo
+                    && mongo.hasErrorLabel(TRANSIENT_ERROR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
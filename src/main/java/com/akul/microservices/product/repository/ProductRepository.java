@@ -1,12 +1,16 @@
 package com.akul.microservices.product.repository;
 
+import com.akul.microservices.product.dto.ProductSuggestion;
 import com.akul.microservices.product.model.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * ProductRepository.java.
@@ -17,12 +21,30 @@ import java.util.Optional;
  */
 public interface ProductRepository extends MongoRepository<Product, String> {
 
+    String PUBLIC_FIELDS =
+            "{ 'sku': 1, 'name': 1, 'description': 1, 'price': 1, '_id': 0 }";
+
+    /**
+     * Matches products that are not deleted; documents written before
+     * soft deletes have no {@code deleted} field.
+     */
+    String LIVE = "'deleted': { '$ne': true }";
+
+    @Query("{ 'sku': ?0, " + LIVE + " }")
     Optional<Product> findBySku(String sku);
 
+    @Query(value = "{ 'sku': ?0, " + LIVE + " }", exists = true)
     boolean existsBySku(String sku);
 
-    Page<Product> findAllByEnabledTrue(Pageable pageable);
+    @Query("{ " + LIVE + " }")
+    Page<Product> findLiveProducts(Pageable pageable);
+
+    @Query(value = "{ 'enabled': true }",
+            fields = "{ 'sku': 1, 'name': 1, '_id': 0 }")
+    Stream<ProductSuggestion> streamSuggestions();
 
-    List<Product> findAllBySkuIn(List<String> skus);
+    @Query(value = "{ 'enabled': true, 'sku': { '$in': ?0 } }",
+            fields = "{ 'sku': 1, 'name': 1, '_id': 0 }")
+    List<ProductSuggestion> findSuggestionsBySkuIn(Collection<String> skus);
 
 }
@@ -0,0 +1,95 @@
+package com.akul.microservices.product.repository;
+
+import com.akul.microservices.product.dto.ProductResponse;
+import com.akul.microservices.product.model.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Public reads straight into {@link ProductResponse}. Filter, sort and
+ * projected fields are all in the hinted index, so the queries are
+ * covered. They take the {@link MongoOperations} to run on, so the
+ * caller decides whether a read goes to the primary or a secondary.
+ *
+ * @author Andrii Kulynych
+ * @since 4/9/2026
+ */
+public final class PublicProductQueries {
+
+    private PublicProductQueries() {
+    }
+
+    public static Page<ProductResponse> findPublicProducts(
+            MongoOperations operations, Pageable pageable) {
+        return page(operations, enabled(), Product.PUBLIC_READ_INDEX,
+                pageable);
+    }
+
+    /**
+     * Listing within a price range over the
+     * {@value Product#PUBLIC_PRICE_INDEX} index. Either bound may be
+     * {@code null}.
+     */
+    public static Page<ProductResponse> findPublicProductsByPrice(
+            MongoOperations operations, BigDecimal minPrice,
+            BigDecimal maxPrice, Pageable pageable) {
+        Criteria filter = enabled();
+        Criteria price = filter.and("price");
+        if (minPrice != null) {
+            price.gte(minPrice);
+        }
+        if (maxPrice != null) {
+            price.lte(maxPrice);
+        }
+        return page(operations, filter, Product.PUBLIC_PRICE_INDEX,
+                pageable);
+    }
+
+    public static Optional<ProductResponse> findPublicProductBySku(
+            MongoOperations operations, String sku) {
+        return operations.query(Product.class).as(ProductResponse.class)
+                .matching(query(enabled().and("sku").is(sku),
+                        Product.PUBLIC_READ_INDEX))
+                .first();
+    }
+
+    public static List<ProductResponse> findPublicProductsBySkuIn(
+            MongoOperations operations, Collection<String> skus) {
+        return operations.query(Product.class).as(ProductResponse.class)
+                .matching(query(enabled().and("sku").in(skus),
+                        Product.PUBLIC_READ_INDEX))
+                .all();
+    }
+
+    private static Page<ProductResponse> page(MongoOperations operations,
+                                              Criteria filter, String index,
+                                              Pageable pageable) {
+        Query count = Query.query(filter).withHint(index);
+        List<ProductResponse> content = operations.query(Product.class)
+                .as(ProductResponse.class)
+                .matching(query(filter, index).with(pageable))
+                .all();
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> operations.count(count, Product.class));
+    }
+
+    private static Query query(Criteria filter, String index) {
+        Query query = Query.query(filter).withHint(index);
+        query.fields().include("sku", "name", "description", "price")
+                .exclude("_id");
+        return query;
+    }
+
+    private static Criteria enabled() {
+        return Criteria.where("enabled").is(true);
+    }
+}
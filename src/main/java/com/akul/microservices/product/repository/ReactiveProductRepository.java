@@ -0,0 +1,33 @@
+package com.akul.microservices.product.repository;
+
+import com.akul.microservices.product.dto.ProductResponse;
+import com.akul.microservices.product.model.Product;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Hint;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link ProductRepository} for the public
+ * read API, active with the {@code reactive} profile only.
+ *
+ * @author Andrii Kulynych
+ * @since 1/30/2026
+ */
+public interface ReactiveProductRepository
+        extends ReactiveMongoRepository<Product, String> {
+
+    @Query(value = "{ 'enabled': true }",
+            fields = ProductRepository.PUBLIC_FIELDS)
+    @Hint(Product.PUBLIC_READ_INDEX)
+    Flux<ProductResponse> findPublicProducts(Pageable pageable);
+
+    @Query(value = "{ 'enabled': true, 'sku': ?0 }",
+            fields = ProductRepository.PUBLIC_FIELDS)
+    @Hint(Product.PUBLIC_READ_INDEX)
+    Mono<ProductResponse> findPublicProductBySku(String sku);
+
+    Mono<Long> countByEnabledTrue();
+}
@@ -0,0 +1,194 @@
+package com.akul.microservices.product.routing;
+
+import com.akul.microservices.product.config.ProductProperties;
+import com.akul.microservices.product.config.ReadRoutingConfig;
+import com.akul.microservices.product.event.ProductChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.BsonTimestamp;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Chooses where public reads go.
+ *
+ * <ul>
+ *   <li>{@link #stale(String, Function)} and
+ *   {@link #stream(String, Function)}: uncached reads (listing, search,
+ *   scroll, export) always use the {@code secondaryPreferred}
+ *   template.</li>
+ *   <li>{@link #read(String, Collection, Function)} and
+ *   {@link #readCatalog(String, Function)}: reads whose result is cached,
+ *   or that may follow a client's own write, go to the primary while the
+ *   SKUs (or, for catalog pages, any product) were written within
+ *   {@code fresh-window}. Otherwise a lagging secondary could put the
+ *   old state back into a cache right after the write evicted it. With
+ *   {@code causal-sessions} they stay on secondaries instead, in a
+ *   causally consistent session that waits for the latest write.</li>
+ * </ul>
+ *
+ * <p>Every read is timed as {@code product.public.reads}, tagged with the
+ * caller's {@code method} name and the {@code route} it took, the same
+ * per-query view that {@code spring.data.repository.invocations} gives
+ * for repository methods. A streamed read is timed until its stream is
+ * closed, covering every batch fetched rather than the first one.
+ *
+ * <p>Admin reads and the changes feed do not use this router and read
+ * from the primary.
+ *
+ * @author Andrii Kulynych
+ * @since 4/9/2026
+ */
+@Component
+public class PublicReadRouter {
+
+    private static final String ALL = "";
+    private static final String PRIMARY = "primary";
+    private static final String SECONDARY = "secondary";
+    private static final String CAUSAL = "causal";
+
+    private final MongoTemplate primary;
+    private final MongoTemplate secondary;
+    private final MongoClient mongoClient;
+    private final WriteTimestampListener writeTimestamps;
+    private final ProductProperties.ReadRouting config;
+    private final Cache<String, Boolean> recentWrites;
+    private final Counter freshReads;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public PublicReadRouter(
+            MongoTemplate mongoTemplate,
+            @Qualifier(ReadRoutingConfig.PUBLIC_READ_TEMPLATE)
+            MongoTemplate publicReadTemplate,
+            MongoClient mongoClient,
+            WriteTimestampListener writeTimestamps,
+            ProductProperties properties,
+            MeterRegistry meterRegistry) {
+        this.primary = mongoTemplate;
+        this.secondary = publicReadTemplate;
+        this.mongoClient = mongoClient;
+        this.writeTimestamps = writeTimestamps;
+        this.config = properties.getReadRouting();
+        this.recentWrites = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(config.getFreshWindow() != null
+                        ? config.getFreshWindow() : config.getMaxStaleness())
+                .build();
+        this.freshReads = Counter.builder("product.reads.fresh")
+                .description("Public reads kept consistent with a recent "
+                        + "write")
+                .register(meterRegistry);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T stale(String method, Function<MongoOperations, T> query) {
+        return config.isEnabled()
+                ? timed(method, SECONDARY, () -> query.apply(secondary))
+                : timed(method, PRIMARY, () -> query.apply(primary));
+    }
+
+    /**
+     * Like {@link #stale(String, Function)}, but the timer stops when the
+     * returned stream is closed, so the caller must close it.
+     */
+    public <T> Stream<T> stream(String method,
+                                Function<MongoOperations, Stream<T>> query) {
+        Timer timer = timer(method,
+                config.isEnabled() ? SECONDARY : PRIMARY);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return query.apply(config.isEnabled() ? secondary : primary)
+                    .onClose(() -> sample.stop(timer));
+        } catch (RuntimeException ex) {
+            sample.stop(timer);
+            throw ex;
+        }
+    }
+
+    public <T> T read(String method, Collection<String> skus,
+                      Function<MongoOperations, T> query) {
+        boolean written = recentWrites.getIfPresent(ALL) != null
+                || skus.stream().anyMatch(sku ->
+                        recentWrites.getIfPresent(sku) != null);
+        return written ? fresh(method, query) : stale(method, query);
+    }
+
+    /**
+     * The estimated size may still count expired entries, which only
+     * keeps pages on the fresh path a little longer.
+     */
+    public <T> T readCatalog(String method,
+                             Function<MongoOperations, T> query) {
+        return recentWrites.estimatedSize() > 0 ? fresh(method, query)
+                : stale(method, query);
+    }
+
+    /**
+     * Runs before the caches drop their entries for the same event, so
+     * no reload can slip in between and read a secondary.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        if (event.allProducts()) {
+            recentWrites.put(ALL, Boolean.TRUE);
+        } else {
+            event.skus().forEach(sku -> recentWrites.put(sku, Boolean.TRUE));
+        }
+    }
+
+    private <T> T fresh(String method, Function<MongoOperations, T> query) {
+        if (!config.isEnabled()) {
+            return timed(method, PRIMARY, () -> query.apply(primary));
+        }
+        freshReads.increment();
+        BsonTimestamp after = writeTimestamps.latest();
+        if (!config.isCausalSessions() || after == null) {
+            return timed(method, PRIMARY, () -> query.apply(primary));
+        }
+        try (ClientSession session = mongoClient.startSession(
+                ClientSessionOptions.builder()
+                        .causallyConsistent(true).build())) {
+            session.advanceOperationTime(after);
+            return timed(method, CAUSAL,
+                    () -> query.apply(secondary.withSession(session)));
+        }
+    }
+
+    private <T> T timed(String method, String route, Supplier<T> read) {
+        return timer(method, route).record(read);
+    }
+
+    private Timer timer(String method, String route) {
+        return timers.computeIfAbsent(method + '|' + route,
+                key -> Timer.builder("product.public.reads")
+                        .description("Public product reads by query and "
+                                + "route")
+                        .tag("method", method)
+                        .tag("route", route)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+    }
+}
@@ -0,0 +1,57 @@
+package com.akul.microservices.product.routing;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Remembers the latest {@code operationTime} of a successful product
+ * write. A causally consistent session advanced to it makes a secondary
+ * wait until it has replicated that write before answering.
+ *
+ * @author Andrii Kulynych
+ * @since 4/9/2026
+ */
+@Component
+public class WriteTimestampListener implements CommandListener {
+
+    private static final Set<String> WRITES = Set.of("insert", "update",
+            "delete", "findAndModify", "commitTransaction");
+
+    private final AtomicReference<BsonTimestamp> latest =
+            new AtomicReference<>();
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        if (WRITES.contains(event.getCommandName())) {
+            // only replica sets and sharded clusters report it
+            BsonValue operationTime =
+                    event.getResponse().get("operationTime");
+            if (operationTime != null && operationTime.isTimestamp()) {
+                advance(operationTime.asTimestamp());
+            }
+        }
+    }
+
+    /**
+     * Also fed with the cluster time of changes made by other replicas.
+     */
+    public void advance(BsonTimestamp operationTime) {
+        latest.accumulateAndGet(operationTime, (current, candidate) ->
+                current == null || candidate.compareTo(current) > 0
+                        ? candidate : current);
+    }
+
+    /**
+     * @return the latest known write time, or {@code null} when not
+     *     running against a replica set
+     */
+    public BsonTimestamp latest() {
+        return latest.get();
+    }
+}
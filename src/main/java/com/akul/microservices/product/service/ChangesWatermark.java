@@ -0,0 +1,45 @@
+package com.akul.microservices.product.service;
+
+import com.akul.microservices.product.exception.InvalidChangesRequestException;
+import com.akul.microservices.product.model.Product;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Opaque position in the changes feed: {@code updatedAt} and {@code _id}
+ * of the last product a client has seen.
+ *
+ * @author Andrii Kulynych
+ * @since 2/11/2026
+ */
+public record ChangesWatermark(Instant updatedAt, String id) {
+
+    public static ChangesWatermark after(Product last) {
+        return new ChangesWatermark(last.getUpdatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String raw = updatedAt.toEpochMilli() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChangesWatermark decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token),
+                    StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 2);
+            if (!ObjectId.isValid(parts[1])) {
+                throw new IllegalArgumentException(parts[1]);
+            }
+            return new ChangesWatermark(
+                    Instant.ofEpochMilli(Long.parseLong(parts[0])), parts[1]);
+        } catch (IllegalArgumentException
+                 | ArrayIndexOutOfBoundsException ex) {
+            throw new InvalidChangesRequestException("Malformed watermark");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.akul.microservices.product.service;
+
+import com.akul.microservices.product.exception.UnsupportedExportFormatException;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * ExportFormat.java.
+ *
+ * @author Andrii Kulynych
+ * @since 1/16/2026
+ */
+public enum ExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static ExportFormat of(String format) {
+        try {
+            return valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new UnsupportedExportFormatException(format);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.akul.microservices.product.service;
+
+import com.akul.microservices.product.config.ProductProperties;
+import com.akul.microservices.product.dto.ProductChange;
+import com.akul.microservices.product.dto.ProductChanges;
+import com.akul.microservices.product.exception.InvalidChangesRequestException;
+import com.akul.microservices.product.exception.WatermarkExpiredException;
+import com.akul.microservices.product.model.Product;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Products changed after a watermark, disabled and deleted ones as
+ * tombstones, so downstream copies can sync a delta instead of the whole
+ * catalog.
+ *
+ * <p>Writers stamp {@code updatedAt} before they commit, so a change can
+ * become visible with a slightly older timestamp than one already read.
+ * The feed therefore ends {@code product.changes.settle-window} before
+ * now, and a watermark never passes a point where such a late write could
+ * still show up. Products sharing an {@code updatedAt} are ordered by
+ * {@code _id}, which the watermark carries too.
+ *
+ * @author Andrii Kulynych
+ * @since 2/11/2026
+ */
+@Service
+@Observed(name = "product.service")
+@RequiredArgsConstructor
+public class ProductChangesService {
+
+    private static final Duration TOMBSTONE_RETENTION =
+            DurationStyle.detectAndParse(Product.TOMBSTONE_TTL);
+    private static final String NO_ID = new ObjectId(new byte[12])
+            .toHexString();
+
+    private final MongoTemplate mongoTemplate;
+    private final ProductProperties properties;
+
+    public ProductChanges changesSince(String since, int size) {
+        if (size < 1) {
+            throw new InvalidChangesRequestException(
+                    "Size must be positive");
+        }
+        ProductProperties.Changes config = properties.getChanges();
+        int limit = Math.min(size, config.getMaxPageSize());
+        Instant now = Instant.now();
+        Instant settled = now.minus(config.getSettleWindow());
+
+        Criteria filter = Criteria.where("updatedAt").lte(settled);
+        boolean resuming = since != null && !since.isBlank();
+        if (resuming) {
+            ChangesWatermark watermark = ChangesWatermark.decode(since);
+            if (watermark.updatedAt().isBefore(
+                    now.minus(TOMBSTONE_RETENTION))) {
+                throw new WatermarkExpiredException();
+            }
+            filter = Criteria.where("updatedAt")
+                    .gte(watermark.updatedAt()).lte(settled)
+                    .norOperator(Criteria.where("updatedAt")
+                            .is(watermark.updatedAt())
+                            .and("id").lte(new ObjectId(watermark.id())));
+        }
+
+        Query query = new Query(filter)
+                .with(Sort.by("updatedAt", "id"))
+                .limit(limit + 1)
+                .withHint(Product.CHANGES_INDEX);
+        query.fields().include("sku", "name", "description", "price",
+                "enabled", "deleted", "updatedAt");
+        List<Product> products = mongoTemplate.find(query, Product.class);
+
+        boolean hasMore = products.size() > limit;
+        List<Product> page = hasMore ? products.subList(0, limit) : products;
+        String watermark;
+        if (!page.isEmpty()) {
+            watermark = ChangesWatermark.after(page.getLast()).encode();
+        } else if (resuming) {
+            watermark = since;
+        } else {
+            // nothing changed yet: start following from the settled point
+            watermark = new ChangesWatermark(settled, NO_ID).encode();
+        }
+        return new ProductChanges(page.stream().map(ProductChange::from)
+                .toList(), watermark, hasMore);
+    }
+}
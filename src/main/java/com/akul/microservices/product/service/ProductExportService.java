@@ -0,0 +1,170 @@
+package com.akul.microservices.product.service;
+
+import com.akul.microservices.product.config.ProductProperties;
+import com.akul.microservices.product.dto.ProductResponse;
+import com.akul.microservices.product.model.Product;
+import com.akul.microservices.product.routing.PublicReadRouter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams the enabled catalog from a Mongo cursor straight to the
+ * response. Neither a {@code Page} nor a {@code List} is built: memory is
+ * bounded by the cursor batch and the output buffer.
+ *
+ * <p>Concurrent streams are bounded by the {@code export} bulkhead rather
+ * than the adaptive limit on public reads, which they would hold for the
+ * whole download.
+ *
+ * @author Andrii Kulynych
+ * @since 1/16/2026
+ */
+@Service
+@Slf4j
+public class ProductExportService {
+
+    private static final String CSV_HEADER = "sku,name,description,price";
+
+    private final PublicReadRouter readRouter;
+    private final ObjectWriter jsonWriter;
+    private final ProductProperties properties;
+    private final Bulkhead exports;
+
+    public ProductExportService(PublicReadRouter readRouter,
+                                ObjectMapper objectMapper,
+                                ProductProperties properties,
+                                BulkheadRegistry bulkheadRegistry) {
+        this.readRouter = readRouter;
+        this.jsonWriter = objectMapper.writerFor(ProductResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.properties = properties;
+        this.exports = bulkheadRegistry.bulkhead("export");
+    }
+
+    /**
+     * Takes an {@code export} permit before the response starts, so a full
+     * bulkhead is still answered with 503, and holds it until the body has
+     * been streamed.
+     */
+    public StreamingResponseBody stream(ExportFormat format) {
+        exports.acquirePermission();
+        return output -> {
+            try {
+                export(format, output);
+            } finally {
+                exports.onComplete();
+            }
+        };
+    }
+
+    public void export(ExportFormat format, OutputStream output)
+            throws IOException {
+        ProductProperties.Export config = properties.getExport();
+        OutputStream buffered =
+                new BufferedOutputStream(output, config.getBufferSize());
+        long count = 0;
+
+        try (Stream<Product> products = readRouter.stream("export",
+                operations -> operations.stream(
+                        exportQuery(config.getCursorBatchSize()),
+                        Product.class))) {
+            Iterator<ProductResponse> items =
+                    products.map(ProductResponse::from).iterator();
+            count = switch (format) {
+                case NDJSON -> writeNdjson(items, buffered);
+                case CSV -> writeCsv(items, buffered);
+            };
+        } finally {
+            buffered.flush();
+            log.info("Catalog export ({}) streamed {} products",
+                    format, count);
+        }
+    }
+
+    private static Query exportQuery(int cursorBatchSize) {
+        Query query = Query.query(Criteria.where("enabled").is(true))
+                .with(Sort.by("sku"))
+                .cursorBatchSize(cursorBatchSize);
+        query.fields().include("sku", "name", "description", "price");
+        return query;
+    }
+
+    private long writeNdjson(Iterator<ProductResponse> items,
+                             OutputStream output) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator =
+                     jsonWriter.createGenerator(output)) {
+            generator.setRootValueSeparator(null);
+            while (items.hasNext()) {
+                jsonWriter.writeValue(generator, items.next());
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(Iterator<ProductResponse> items,
+                          OutputStream output) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        while (items.hasNext()) {
+            ProductResponse item = items.next();
+            writer.write(csv(item.sku()));
+            writer.write(',');
+            writer.write(csv(item.name()));
+            writer.write(',');
+            writer.write(csv(item.description()));
+            writer.write(',');
+            writer.write(price(item.price()));
+            writer.write("\r\n");
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static String price(BigDecimal price) {
+        return price == null ? "" : price.toPlainString();
+    }
+
+    /**
+     * Quotes a value per RFC 4180 when it contains a separator, a quote
+     * or a line break.
+     */
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
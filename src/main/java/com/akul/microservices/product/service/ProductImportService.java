@@ -0,0 +1,286 @@
+package com.akul.microservices.product.service;
+
+import com.akul.microservices.product.config.ProductProperties;
+import com.akul.microservices.product.dto.ImportError;
+import com.akul.microservices.product.dto.ImportSummary;
+import com.akul.microservices.product.dto.ProductRequest;
+import com.akul.microservices.product.dto.ProductResponse;
+import com.akul.microservices.product.event.ProductChangedEvent;
+import com.akul.microservices.product.model.Product;
+import com.akul.microservices.product.outbox.OutboxEvent;
+import com.akul.microservices.product.outbox.OutboxEventType;
+import com.akul.microservices.product.outbox.ProductOutbox;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.mongodb.bulk.BulkWriteResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Imports an NDJSON product feed line by line. Only one chunk of parsed
+ * requests is kept in memory; the request stream is not read further
+ * until the previous chunk has been written, so memory stays flat no
+ * matter how large the feed is.
+ *
+ * @author Andrii Kulynych
+ * @since 1/14/2026
+ */
+@Service
+@Slf4j
+public class ProductImportService {
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectReader reader;
+    private final ProductRequestValidator validator;
+    private final ProductProperties properties;
+    private final ProductOutbox outbox;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter acceptedLines;
+    private final Counter rejectedLines;
+    private final Counter failedLines;
+
+    public ProductImportService(MongoTemplate mongoTemplate,
+                                ObjectMapper objectMapper,
+                                ProductRequestValidator validator,
+                                ProductProperties properties,
+                                ProductOutbox outbox,
+                                ApplicationEventPublisher eventPublisher,
+                                MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.reader = objectMapper.readerFor(ProductRequest.class);
+        this.validator = validator;
+        this.properties = properties;
+        this.outbox = outbox;
+        this.eventPublisher = eventPublisher;
+        this.acceptedLines = Counter.builder("product.import.lines")
+                .tag("outcome", "accepted").register(meterRegistry);
+        this.rejectedLines = Counter.builder("product.import.lines")
+                .tag("outcome", "rejected").register(meterRegistry);
+        this.failedLines = Counter.builder("product.import.lines")
+                .tag("outcome", "failed").register(meterRegistry);
+    }
+
+    public ImportSummary importNdjson(InputStream input) throws IOException {
+        ProductProperties.Import config = properties.getImport();
+        int chunkSize = Math.max(1, config.getChunkSize());
+        Progress progress = new Progress(config.getMaxReportedErrors());
+        Map<String, Pending> chunk = new LinkedHashMap<>();
+        long started = System.nanoTime();
+
+        BufferedReader lines = new BufferedReader(
+                new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        while ((line = lines.readLine()) != null) {
+            progress.lines++;
+            if (line.isBlank()) {
+                continue;
+            }
+            ProductRequest request = parse(line, progress);
+            if (request == null) {
+                continue;
+            }
+            // the last occurrence of a SKU inside one chunk wins
+            chunk.remove(request.sku());
+            chunk.put(request.sku(), new Pending(request, progress.lines));
+            if (chunk.size() >= chunkSize) {
+                flush(chunk, progress);
+            }
+        }
+        flush(chunk, progress);
+
+        long durationMs = (System.nanoTime() - started) / 1_000_000;
+        log.info("Catalog import finished: {} lines, {} inserted, "
+                        + "{} updated, {} rejected, {} failed in {} ms",
+                progress.lines, progress.inserted, progress.updated,
+                progress.rejected, progress.failed, durationMs);
+        return new ImportSummary(progress.lines, progress.inserted,
+                progress.updated, progress.rejected, progress.failed,
+                durationMs, progress.errors);
+    }
+
+    private ProductRequest parse(String line, Progress progress) {
+        ProductRequest request;
+        try {
+            request = reader.readValue(line);
+        } catch (JsonProcessingException ex) {
+            progress.reject(null,
+                    "Malformed JSON: " + ex.getOriginalMessage());
+            return null;
+        }
+        String violation = validator.validate(request);
+        if (violation != null) {
+            progress.reject(request == null ? null : request.sku(),
+                    violation);
+            return null;
+        }
+        return request;
+    }
+
+    private void flush(Map<String, Pending> chunk, Progress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<Pending> pending = new ArrayList<>(chunk.values());
+        Map<String, ProductChangedEvent.Listing> listings = new HashMap<>();
+        while (!pending.isEmpty()) {
+            pending = upsert(pending, progress, listings);
+        }
+        eventPublisher.publishEvent(
+                ProductChangedEvent.of(chunk.keySet(), listings));
+        chunk.clear();
+
+        if (++progress.chunks % properties.getImport()
+                .getProgressLogInterval() == 0) {
+            log.info("Catalog import progress: {} lines read, "
+                            + "{} inserted, {} updated, {} rejected",
+                    progress.lines, progress.inserted, progress.updated,
+                    progress.rejected);
+        }
+    }
+
+    /**
+     * Written items are added to {@code listings}: inserted ones are
+     * enabled, updated ones keep their flag.
+     *
+     * @return requests to write again: inside an outbox transaction a
+     * failed item rolls back the whole chunk
+     */
+    private List<Pending> upsert(List<Pending> items, Progress progress,
+                                 Map<String, ProductChangedEvent.Listing>
+                                         listings) {
+        List<ProductRequest> requests =
+                items.stream().map(Pending::request).toList();
+        Instant now = Instant.now();
+        BulkWriteResult result;
+        Set<Integer> failed = new HashSet<>();
+        try {
+            result = outbox.write(() -> {
+                // deleted SKUs come back as new products
+                mongoTemplate.remove(Query.query(Criteria.where("sku")
+                        .in(requests.stream().map(ProductRequest::sku)
+                                .toList())
+                        .and("deleted").is(true)), Product.class);
+                BulkOperations bulk = mongoTemplate.bulkOps(
+                        BulkOperations.BulkMode.UNORDERED, Product.class);
+                requests.forEach(request -> bulk.upsert(
+                        Query.query(Criteria.where("sku").is(request.sku())),
+                        toUpsert(request, now)));
+                BulkWriteResult written = bulk.execute();
+                outbox.append(requests.stream()
+                        .map(ProductImportService::toEvent).toList());
+                return written;
+            });
+        } catch (BulkOperationException ex) {
+            ex.getErrors().forEach(error -> {
+                failed.add(error.getIndex());
+                Pending item = items.get(error.getIndex());
+                progress.fail(item.line(), item.request().sku(),
+                        error.getMessage());
+            });
+            if (outbox.isEnabled()) {
+                List<Pending> retry = new ArrayList<>();
+                for (int i = 0; i < items.size(); i++) {
+                    if (!failed.contains(i)) {
+                        retry.add(items.get(i));
+                    }
+                }
+                return retry;
+            }
+            result = ex.getResult();
+        }
+        progress.inserted += result.getUpserts().size();
+        progress.updated += result.getMatchedCount();
+        acceptedLines.increment(
+                result.getUpserts().size() + result.getMatchedCount());
+
+        Set<Integer> inserted = new HashSet<>();
+        result.getUpserts().forEach(upsert -> inserted.add(upsert.getIndex()));
+        for (int i = 0; i < requests.size(); i++) {
+            if (!failed.contains(i)) {
+                listings.put(requests.get(i).sku(),
+                        new ProductChangedEvent.Listing(requests.get(i).name(),
+                                inserted.contains(i) ? Boolean.TRUE : null));
+            }
+        }
+        return List.of();
+    }
+
+    private static OutboxEvent toEvent(ProductRequest request) {
+        return OutboxEvent.of(OutboxEventType.UPSERTED, request.sku(),
+                new ProductResponse(request.sku(), request.name(),
+                        request.description(), request.price()));
+    }
+
+    private static Update toUpsert(ProductRequest request, Instant now) {
+        return new Update()
+                .set("name", request.name())
+                .set("description", request.description())
+                .set("price", request.price())
+                .set("updatedAt", now)
+                .setOnInsert("createdAt", now)
+                .setOnInsert("enabled", true);
+    }
+
+    private final class Progress {
+        private final int maxErrors;
+        private final List<ImportError> errors = new ArrayList<>();
+        private long lines;
+        private long inserted;
+        private long updated;
+        private long rejected;
+        private long failed;
+        private long chunks;
+
+        private Progress(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void reject(String sku, String message) {
+            rejected++;
+            rejectedLines.increment();
+            report(lines, sku, message);
+        }
+
+        private void fail(long line, String sku, String message) {
+            failed++;
+            failedLines.increment();
+            report(line, sku, message);
+        }
+
+        private void report(long line, String sku, String message) {
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportError(line, sku, message));
+            }
+        }
+    }
+
+    /**
+     * A parsed request and the feed line it came from.
+     */
+    private record Pending(ProductRequest request, long line) {
+    }
+}
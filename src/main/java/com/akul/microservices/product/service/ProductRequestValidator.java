@@ -0,0 +1,43 @@
+package com.akul.microservices.product.service;
+
+import com.akul.microservices.product.dto.ProductRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Validates {@link ProductRequest} items that arrive outside of
+ * {@code @Valid} binding, e.g. inside batch or streamed payloads.
+ *
+ * @author Andrii Kulynych
+ * @since 1/14/2026
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductRequestValidator {
+
+    private final Validator validator;
+
+    /**
+     * @return joined violation messages or {@code null} if the request is
+     * valid
+     */
+    public String validate(ProductRequest request) {
+        if (request == null) {
+            return "Product must not be null";
+        }
+        Set<ConstraintViolation<ProductRequest>> violations =
+                validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+}
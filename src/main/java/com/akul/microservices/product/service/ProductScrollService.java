@@ -0,0 +1,131 @@
+package com.akul.microservices.product.service;
+
+import com.akul.microservices.product.config.ProductProperties;
+import com.akul.microservices.product.dto.AdminProductResponse;
+import com.akul.microservices.product.dto.CursorSlice;
+import com.akul.microservices.product.dto.ProductResponse;
+import com.akul.microservices.product.exception.InvalidScrollRequestException;
+import com.akul.microservices.product.model.Product;
+import com.akul.microservices.product.routing.PublicReadRouter;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Keyset (seek) pagination over products. Each slice continues after the
+ * sort key of the previous one, so latency does not depend on how deep
+ * the client has scrolled and no {@code count()} is issued.
+ *
+ * @author Andrii Kulynych
+ * @since 1/19/2026
+ */
+@Service
+@Observed(name = "product.service")
+@RequiredArgsConstructor
+public class ProductScrollService {
+
+    private static final Set<String> SORT_KEYS =
+            Set.of(ScrollCursor.SKU, ScrollCursor.CREATED_AT);
+
+    private final MongoTemplate mongoTemplate;
+    private final PublicReadRouter readRouter;
+    private final ProductProperties properties;
+
+    /**
+     * Reads only the public fields, so the scan is covered by the
+     * {@value Product#PUBLIC_READ_INDEX} index.
+     */
+    public CursorSlice<ProductResponse> scrollPublicProducts(
+            String cursor, int size) {
+        Query query = Query.query(Criteria.where("enabled").is(true))
+                .withHint(Product.PUBLIC_READ_INDEX);
+        query.fields().include("sku", "name", "description", "price")
+                .exclude("_id");
+        return readRouter.stale("scrollPublicProducts", operations ->
+                scroll(operations, query, ScrollCursor.SKU,
+                        Sort.Direction.ASC, cursor, size,
+                        ProductResponse::from));
+    }
+
+    public CursorSlice<AdminProductResponse> scrollAdminProducts(
+            String sortBy, Sort.Direction direction, String cursor,
+            int size) {
+        if (!SORT_KEYS.contains(sortBy)) {
+            throw new InvalidScrollRequestException(
+                    "Scrolling supports sorting by " + SORT_KEYS);
+        }
+        return scroll(mongoTemplate,
+                Query.query(Criteria.where("deleted").ne(true)), sortBy,
+                direction, cursor, size, AdminProductResponse::from);
+    }
+
+    private <T> CursorSlice<T> scroll(MongoOperations operations,
+                                      Query query, String sortBy,
+                                      Sort.Direction direction,
+                                      String token, int size,
+                                      Function<Product, T> mapper) {
+        int maxPageSize = properties.getScroll().getMaxPageSize();
+        if (size < 1 || size > maxPageSize) {
+            throw new InvalidScrollRequestException(
+                    "Size must be between 1 and " + maxPageSize);
+        }
+        if (token != null && !token.isBlank()) {
+            ScrollCursor cursor = ScrollCursor.decode(token);
+            if (!cursor.sortBy().equals(sortBy)
+                    || cursor.direction() != direction) {
+                throw new InvalidScrollRequestException(
+                        "Cursor was issued for a different sort");
+            }
+            query.addCriteria(after(cursor));
+        }
+        query.with(sort(sortBy, direction)).limit(size + 1);
+
+        List<Product> products = operations.find(query, Product.class);
+        boolean hasNext = products.size() > size;
+        List<Product> page = hasNext ? products.subList(0, size) : products;
+        String nextCursor = hasNext
+                ? ScrollCursor.after(page.get(size - 1), sortBy, direction)
+                        .encode()
+                : null;
+
+        return new CursorSlice<>(page.stream().map(mapper).toList(),
+                page.size(), hasNext, nextCursor);
+    }
+
+    /**
+     * SKU is unique and is its own tie-breaker; other keys continue on
+     * {@code _id} when several documents share the same value.
+     */
+    private static Criteria after(ScrollCursor cursor) {
+        String key = cursor.sortBy();
+        Object value = cursor.sortValue();
+        boolean asc = cursor.direction().isAscending();
+        if (ScrollCursor.SKU.equals(key)) {
+            return asc ? Criteria.where(key).gt(value)
+                    : Criteria.where(key).lt(value);
+        }
+        Criteria beyond = asc ? Criteria.where(key).gt(value)
+                : Criteria.where(key).lt(value);
+        Criteria tie = Criteria.where(key).is(value).and("id");
+        ObjectId id = new ObjectId(cursor.id());
+        tie = asc ? tie.gt(id) : tie.lt(id);
+        return new Criteria().orOperator(beyond, tie);
+    }
+
+    private static Sort sort(String sortBy, Sort.Direction direction) {
+        if (ScrollCursor.SKU.equals(sortBy)) {
+            return Sort.by(direction, sortBy);
+        }
+        return Sort.by(direction, sortBy, "id");
+    }
+}
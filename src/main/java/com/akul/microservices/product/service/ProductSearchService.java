@@ -0,0 +1,228 @@
+package com.akul.microservices.product.service;
+
+import com.akul.microservices.product.config.ProductProperties;
+import com.akul.microservices.product.dto.CursorSlice;
+import com.akul.microservices.product.dto.ProductResponse;
+import com.akul.microservices.product.exception.InvalidSearchRequestException;
+import com.akul.microservices.product.routing.PublicReadRouter;
+import com.mongodb.MongoExecutionTimeoutException;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Relevance-ranked text search over product names and descriptions with
+ * optional price range and keyset continuation.
+ *
+ * <p>Every search needs a text query, so it starts from the text index;
+ * slices are bounded and the aggregation runs with a server-side time
+ * limit, so a broad query fails fast instead of scanning the collection.
+ *
+ * @author Andrii Kulynych
+ * @since 2/10/2026
+ */
+@Service
+@Observed(name = "product.service")
+@RequiredArgsConstructor
+public class ProductSearchService {
+
+    public static final String RELEVANCE = "relevance";
+    public static final String PRICE = "price";
+    public static final String SKU = "sku";
+
+    private static final Set<String> SORT_KEYS = Set.of(RELEVANCE, PRICE, SKU);
+    private static final String SCORE_FIELD = "score";
+    private static final String PRICE_FIELD = "priceValue";
+
+    private final PublicReadRouter readRouter;
+    private final ProductProperties properties;
+
+    public CursorSlice<ProductResponse> search(String text,
+                                               BigDecimal minPrice,
+                                               BigDecimal maxPrice,
+                                               String sortBy,
+                                               Sort.Direction direction,
+                                               String token, int size) {
+        validate(text, minPrice, maxPrice, sortBy, size);
+        // relevance is always best match first
+        Sort.Direction effective = RELEVANCE.equals(sortBy)
+                ? Sort.Direction.DESC : direction;
+
+        List<AggregationOperation> pipeline = new ArrayList<>();
+        pipeline.add(stage("$match", new Document("$text",
+                new Document("$search", text.trim()))
+                .append("enabled", true)));
+        pipeline.add(stage("$addFields", new Document(SCORE_FIELD,
+                new Document("$meta", "textScore"))
+                .append(PRICE_FIELD, new Document("$convert",
+                        new Document("input", "$price")
+                                .append("to", "decimal")
+                                .append("onError", null)
+                                .append("onNull", null)))));
+
+        Document filter = priceRange(minPrice, maxPrice);
+        if (PRICE.equals(sortBy) && filter.isEmpty()) {
+            // a price-sorted slice has to carry a price in its cursor
+            filter = new Document(PRICE_FIELD, new Document("$ne", null));
+        }
+        if (token != null && !token.isBlank()) {
+            SearchCursor cursor = SearchCursor.decode(token);
+            if (!cursor.sortBy().equals(sortBy)
+                    || cursor.direction() != effective) {
+                throw new InvalidSearchRequestException(
+                        "Cursor was issued for a different sort");
+            }
+            filter = new Document("$and", List.of(filter, after(cursor)));
+        }
+        pipeline.add(stage("$match", filter));
+        pipeline.add(stage("$sort", sort(sortBy, effective)));
+        pipeline.add(stage("$limit", size + 1));
+        pipeline.add(stage("$project", new Document("_id", 0)
+                .append(SKU, 1).append("name", 1).append("description", 1)
+                .append(PRICE_FIELD, 1).append(SCORE_FIELD, 1)));
+
+        List<Document> documents = aggregate(pipeline);
+        boolean hasNext = documents.size() > size;
+        List<Document> page = hasNext
+                ? documents.subList(0, size) : documents;
+        String nextCursor = hasNext
+                ? cursorAfter(page.get(size - 1), sortBy, effective)
+                        .encode()
+                : null;
+
+        return new CursorSlice<>(
+                page.stream().map(ProductSearchService::toResponse).toList(),
+                page.size(), hasNext, nextCursor);
+    }
+
+    private void validate(String text, BigDecimal minPrice,
+                          BigDecimal maxPrice, String sortBy, int size) {
+        ProductProperties.Search config = properties.getSearch();
+        if (text == null || text.trim().length() < config.getMinQueryLength()) {
+            throw new InvalidSearchRequestException(
+                    "Query must have at least %d characters"
+                            .formatted(config.getMinQueryLength()));
+        }
+        if (!SORT_KEYS.contains(sortBy)) {
+            throw new InvalidSearchRequestException(
+                    "Search supports sorting by " + SORT_KEYS);
+        }
+        if (size < 1 || size > config.getMaxPageSize()) {
+            throw new InvalidSearchRequestException(
+                    "Size must be between 1 and " + config.getMaxPageSize());
+        }
+        if (minPrice != null && maxPrice != null
+                && minPrice.compareTo(maxPrice) > 0) {
+            throw new InvalidSearchRequestException(
+                    "minPrice must not exceed maxPrice");
+        }
+    }
+
+    private List<Document> aggregate(List<AggregationOperation> pipeline) {
+        AggregationOptions options = AggregationOptions.builder()
+                .maxTime(properties.getSearch().getMaxTime())
+                .build();
+        try {
+            return readRouter.stale("search", operations -> operations
+                    .aggregate(Aggregation.newAggregation(pipeline)
+                                    .withOptions(options),
+                            "product", Document.class)
+                    .getMappedResults());
+        } catch (DataAccessException ex) {
+            if (ex.getMostSpecificCause()
+                    instanceof MongoExecutionTimeoutException) {
+                throw new InvalidSearchRequestException(
+                        "Search is too broad, please refine the query");
+            }
+            throw ex;
+        }
+    }
+
+    private static Document priceRange(BigDecimal minPrice,
+                                       BigDecimal maxPrice) {
+        Document range = new Document();
+        if (minPrice != null) {
+            range.append("$gte", new Decimal128(minPrice));
+        }
+        if (maxPrice != null) {
+            range.append("$lte", new Decimal128(maxPrice));
+        }
+        return range.isEmpty()
+                ? new Document() : new Document(PRICE_FIELD, range);
+    }
+
+    /**
+     * Continues after the last returned product; SKU is unique and
+     * breaks ties between equal scores or prices.
+     */
+    private static Document after(SearchCursor cursor) {
+        String operator = cursor.direction().isAscending() ? "$gt" : "$lt";
+        if (SKU.equals(cursor.sortBy())) {
+            return new Document(SKU, new Document(operator, cursor.sku()));
+        }
+        String field = sortField(cursor.sortBy());
+        Object value = sortValue(cursor);
+        return new Document("$or", List.of(
+                new Document(field, new Document(operator, value)),
+                new Document(field, value).append(SKU,
+                        new Document("$gt", cursor.sku()))));
+    }
+
+    private static Object sortValue(SearchCursor cursor) {
+        try {
+            return RELEVANCE.equals(cursor.sortBy())
+                    ? Double.parseDouble(cursor.value())
+                    : new Decimal128(new BigDecimal(cursor.value()));
+        } catch (NumberFormatException ex) {
+            throw new InvalidSearchRequestException("Malformed cursor");
+        }
+    }
+
+    private static SearchCursor cursorAfter(Document last, String sortBy,
+                                            Sort.Direction direction) {
+        String value = switch (sortBy) {
+            case RELEVANCE -> String.valueOf(last.getDouble(SCORE_FIELD));
+            case PRICE -> String.valueOf(last.get(PRICE_FIELD,
+                    Decimal128.class).bigDecimalValue());
+            default -> "";
+        };
+        return new SearchCursor(sortBy, direction, value,
+                last.getString(SKU));
+    }
+
+    private static Document sort(String sortBy, Sort.Direction direction) {
+        int order = direction.isAscending() ? 1 : -1;
+        if (SKU.equals(sortBy)) {
+            return new Document(SKU, order);
+        }
+        return new Document(sortField(sortBy), order).append(SKU, 1);
+    }
+
+    private static String sortField(String sortBy) {
+        return RELEVANCE.equals(sortBy) ? SCORE_FIELD : PRICE_FIELD;
+    }
+
+    private static ProductResponse toResponse(Document document) {
+        Decimal128 price = document.get(PRICE_FIELD, Decimal128.class);
+        return new ProductResponse(document.getString(SKU),
+                document.getString("name"),
+                document.getString("description"),
+                price == null ? null : price.bigDecimalValue());
+    }
+
+    private static AggregationOperation stage(String name, Object body) {
+        return context -> new Document(name, body);
+    }
+}
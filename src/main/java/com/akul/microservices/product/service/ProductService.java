@@ -1,19 +1,53 @@
 package com.akul.microservices.product.service;
 
+import com.akul.microservices.product.cache.ProductCache;
+import com.akul.microservices.product.config.ProductProperties;
 import com.akul.microservices.product.dto.AdminProductResponse;
+import com.akul.microservices.product.dto.BatchItemResult;
+import com.akul.microservices.product.dto.BulkUpdateSummary;
+import com.akul.microservices.product.dto.ProductLookupResponse;
 import com.akul.microservices.product.dto.ProductRequest;
 import com.akul.microservices.product.dto.ProductResponse;
 import com.akul.microservices.product.dto.ProductUpdateRequest;
+import com.akul.microservices.product.event.ProductChangedEvent;
+import com.akul.microservices.product.exception.InvalidPriceRangeException;
+import com.akul.microservices.product.exception.LookupLimitExceededException;
 import com.akul.microservices.product.exception.ProductAlreadyExistsException;
 import com.akul.microservices.product.exception.ProductNotFoundException;
 import com.akul.microservices.product.model.Product;
+import com.akul.microservices.product.outbox.OutboxEvent;
+import com.akul.microservices.product.outbox.OutboxEventType;
+import com.akul.microservices.product.outbox.ProductOutbox;
 import com.akul.microservices.product.repository.ProductRepository;
+import com.akul.microservices.product.repository.PublicProductQueries;
+import com.akul.microservices.product.routing.PublicReadRouter;
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.observation.annotation.Observed;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * ProductService.java.
@@ -23,12 +57,36 @@ import java.util.List;
  * @since 8/19/2025
  */
 @Service
+@Observed(name = "product.service")
 @Slf4j
 public class ProductService {
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
     private final ProductRepository productRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ProductRequestValidator validator;
+    private final ProductProperties properties;
+    private final ProductCache productCache;
+    private final ProductOutbox outbox;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PublicReadRouter readRouter;
 
-    public ProductService(ProductRepository productRepository) {
+    public ProductService(ProductRepository productRepository,
+                          MongoTemplate mongoTemplate,
+                          ProductRequestValidator validator,
+                          ProductProperties properties,
+                          ProductCache productCache,
+                          ProductOutbox outbox,
+                          ApplicationEventPublisher eventPublisher,
+                          PublicReadRouter readRouter) {
         this.productRepository = productRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.validator = validator;
+        this.properties = properties;
+        this.productCache = productCache;
+        this.outbox = outbox;
+        this.eventPublisher = eventPublisher;
+        this.readRouter = readRouter;
     }
 
 
@@ -37,77 +95,416 @@ public class ProductService {
             throw new ProductAlreadyExistsException(request.sku());
         }
 
-        Product product = Product.builder().sku(request.sku())
-                .name(request.name()).description(request.description())
-                .price(request.price()).enabled(true).build();
-
-        Product saved = productRepository.save(product);
+        Product saved = outbox.write(() -> {
+            purgeTombstones(List.of(request.sku()));
+            Product product = productRepository.save(Product.builder()
+                    .sku(request.sku()).name(request.name())
+                    .description(request.description())
+                    .price(request.price()).enabled(true).build());
+            outbox.append(OutboxEvent.of(OutboxEventType.CREATED, product));
+            return product;
+        });
+        eventPublisher.publishEvent(ProductChangedEvent.of(saved));
         log.info("Admin created product {}", saved.getSku());
 
         return AdminProductResponse.from(saved);
     }
 
+    /**
+     * Creates products in bulk: one {@code $in} query detects existing
+     * SKUs, the rest is written with unordered bulk inserts in chunks.
+     * Every request item gets its own result, so a single bad item no
+     * longer fails the whole batch.
+     */
+    public List<BatchItemResult> createAdminProducts(
+            List<ProductRequest> requests) {
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            ProductRequest request = requests.get(i);
+            String violation = validator.validate(request);
+            if (violation != null) {
+                results[i] = BatchItemResult.invalid(
+                        i, skuOf(request), violation);
+            } else if (candidates.putIfAbsent(request.sku(), i) != null) {
+                results[i] = BatchItemResult.conflict(i, request.sku(),
+                        "Duplicate SKU '%s' in batch"
+                                .formatted(request.sku()));
+            }
+        }
+
+        for (String sku : findExistingSkus(candidates.keySet())) {
+            int index = candidates.remove(sku);
+            results[index] = BatchItemResult.conflict(index, sku,
+                    new ProductAlreadyExistsException(sku).getMessage());
+        }
+
+        List<Integer> pending = List.copyOf(candidates.values());
+        int chunkSize = Math.max(1, properties.getBatch().getChunkSize());
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<Integer> chunk = pending.subList(
+                    from, Math.min(from + chunkSize, pending.size()));
+            insertChunk(requests, chunk, results);
+        }
+
+        log.info("Admin batch created {} of {} products",
+                pending.size(), requests.size());
+        return List.of(results);
+    }
+
+    /**
+     * Inside an outbox transaction a failed item rolls back the whole
+     * chunk, so the remaining items are inserted again without it.
+     */
+    private void insertChunk(List<ProductRequest> requests,
+                             List<Integer> chunk,
+                             BatchItemResult[] results) {
+        List<Integer> pending = chunk;
+        while (!pending.isEmpty()) {
+            Instant now = Instant.now();
+            List<Product> products = pending.stream()
+                    .map(index -> toNewProduct(requests.get(index), now))
+                    .toList();
+            Map<Integer, String> failures = insertAll(products);
+            boolean rolledBack = outbox.isEnabled() && !failures.isEmpty();
+            if (!rolledBack) {
+                publishCreated(products, failures.keySet());
+            }
+
+            List<Integer> retry = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                int index = pending.get(i);
+                Product product = products.get(i);
+                if (!failures.containsKey(i)) {
+                    if (rolledBack) {
+                        retry.add(index);
+                    } else {
+                        results[index] = BatchItemResult.created(
+                                index, AdminProductResponse.from(product));
+                    }
+                } else if (failures.get(i) == null) {
+                    results[index] = BatchItemResult.conflict(index,
+                            product.getSku(),
+                            new ProductAlreadyExistsException(
+                                    product.getSku()).getMessage());
+                } else {
+                    results[index] = BatchItemResult.invalid(index,
+                            product.getSku(), failures.get(i));
+                }
+            }
+            pending = retry;
+        }
+    }
+
+    /**
+     * Failed items stay in the event without a listing: a duplicate SKU
+     * belongs to a product that this write did not change.
+     */
+    private void publishCreated(List<Product> products,
+                                Set<Integer> failed) {
+        Map<String, ProductChangedEvent.Listing> listings = new HashMap<>();
+        for (int i = 0; i < products.size(); i++) {
+            if (!failed.contains(i)) {
+                listings.put(products.get(i).getSku(),
+                        ProductChangedEvent.Listing.of(products.get(i)));
+            }
+        }
+        eventPublisher.publishEvent(ProductChangedEvent.of(
+                products.stream().map(Product::getSku).toList(), listings));
+    }
+
+    /**
+     * @return failed positions with their error; {@code null} marks a
+     * duplicate SKU
+     */
+    private Map<Integer, String> insertAll(List<Product> products) {
+        try {
+            outbox.write(() -> {
+                purgeTombstones(products.stream().map(Product::getSku)
+                        .toList());
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+                        Product.class).insert(products).execute();
+                outbox.append(products.stream().map(product ->
+                        OutboxEvent.of(OutboxEventType.CREATED, product))
+                        .toList());
+            });
+            return Map.of();
+        } catch (BulkOperationException ex) {
+            Map<Integer, String> failures = new LinkedHashMap<>();
+            ex.getErrors().forEach(error -> failures.put(
+                    error.getIndex(),
+                    error.getCode() == DUPLICATE_KEY_ERROR
+                            ? null : error.getMessage()));
+            return failures;
+        }
+    }
+
+    private Set<String> findExistingSkus(Collection<String> skus) {
+        if (skus.isEmpty()) {
+            return Set.of();
+        }
+        Query query = Query.query(Criteria.where("sku").in(skus)
+                .and("deleted").ne(true));
+        query.fields().include("sku");
+        return mongoTemplate.find(query, Product.class).stream()
+                .map(Product::getSku)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    /**
+     * Removes tombstones of deleted products, so their SKUs can be
+     * created again.
+     */
+    private void purgeTombstones(Collection<String> skus) {
+        mongoTemplate.remove(Query.query(Criteria.where("sku").in(skus)
+                .and("deleted").is(true)), Product.class);
+    }
+
+    private static String skuOf(ProductRequest request) {
+        return request == null ? null : request.sku();
+    }
+
+    /**
+     * Id and timestamps are assigned up front, so the batch response can
+     * be built without reading the inserted documents back.
+     */
+    private static Product toNewProduct(ProductRequest request,
+                                        Instant now) {
+        return Product.builder().id(new ObjectId().toHexString())
+                .sku(request.sku()).name(request.name())
+                .description(request.description()).price(request.price())
+                .createdAt(now).updatedAt(now).enabled(true).build();
+    }
+
+    /**
+     * Applies the update with a single {@code findAndModify}, so there is
+     * no read-modify-write window between concurrent admins.
+     */
     public AdminProductResponse updateAdminProduct(
             String sku, ProductUpdateRequest request) {
-        Product product = productRepository.findBySku(sku).orElseThrow(
-                () -> new ProductNotFoundException(sku));
-
-        product.setName(request.name());
-        product.setDescription(request.description());
-        product.setPrice(request.price());
+        Update update = new Update()
+                .set("name", request.name())
+                .set("description", request.description())
+                .set("price", request.price())
+                .set("updatedAt", Instant.now());
 
-        Product saved = productRepository.save(product);
+        Product saved = outbox.write(() -> {
+            Product product = mongoTemplate.findAndModify(bySku(sku),
+                    update, FindAndModifyOptions.options().returnNew(true),
+                    Product.class);
+            if (product == null) {
+                throw new ProductNotFoundException(sku);
+            }
+            outbox.append(OutboxEvent.of(OutboxEventType.UPDATED, product));
+            return product;
+        });
+        eventPublisher.publishEvent(ProductChangedEvent.of(saved));
         log.info("Admin updated product {}", sku);
 
         return AdminProductResponse.from(saved);
     }
 
     public void disableProduct(String sku) {
-        Product product = productRepository.findBySku(sku).orElseThrow(
-                () -> new ProductNotFoundException(sku));
-
-        product.setEnabled(false);
-        productRepository.save(product);
-
+        setEnabled(sku, false);
         log.info("Product disabled {}", sku);
     }
 
     public void enableProduct(String sku) {
-        Product product = productRepository.findBySku(sku).orElseThrow(
-                () -> new ProductNotFoundException(sku));
+        setEnabled(sku, true);
+        log.info("Product enabled {}", sku);
+    }
 
-        product.setEnabled(true);
-        productRepository.save(product);
+    private void setEnabled(String sku, boolean enabled) {
+        outbox.write(() -> {
+            UpdateResult result = mongoTemplate.updateFirst(bySku(sku),
+                    enabledUpdate(enabled, Instant.now()), Product.class);
+            if (result.getMatchedCount() == 0) {
+                throw new ProductNotFoundException(sku);
+            }
+            outbox.append(OutboxEvent.of(toggleType(enabled), sku));
+        });
+        eventPublisher.publishEvent(
+                ProductChangedEvent.enabled(List.of(sku), enabled));
+    }
 
-        log.info("Product enabled {}", sku);
+    /**
+     * Toggles {@code enabled} for many SKUs with one {@code updateMulti}
+     * per chunk. Unknown SKUs are counted as requested but not matched.
+     */
+    public BulkUpdateSummary setEnabled(List<String> skus, boolean enabled) {
+        List<String> distinct = skus.stream().distinct().toList();
+        int chunkSize = Math.max(1, properties.getBatch().getChunkSize());
+        Instant now = Instant.now();
+        long matched = 0;
+        long modified = 0;
+
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            List<String> chunk = distinct.subList(
+                    from, Math.min(from + chunkSize, distinct.size()));
+            UpdateResult result = outbox.write(() -> {
+                UpdateResult updated = mongoTemplate.updateMulti(
+                        Query.query(Criteria.where("sku").in(chunk)
+                                .and("deleted").ne(true)),
+                        enabledUpdate(enabled, now), Product.class);
+                if (outbox.isEnabled()) {
+                    Set<String> existing = findExistingSkus(chunk);
+                    outbox.append(chunk.stream().filter(existing::contains)
+                            .map(sku -> OutboxEvent.of(
+                                    toggleType(enabled), sku))
+                            .toList());
+                }
+                return updated;
+            });
+            matched += result.getMatchedCount();
+            modified += result.getModifiedCount();
+            eventPublisher.publishEvent(
+                    ProductChangedEvent.enabled(chunk, enabled));
+        }
+
+        log.info("Admin {} {} of {} products",
+                enabled ? "enabled" : "disabled", matched, distinct.size());
+        return new BulkUpdateSummary(distinct.size(), matched, modified);
+    }
+
+    private static Query bySku(String sku) {
+        return Query.query(Criteria.where("sku").is(sku)
+                .and("deleted").ne(true));
+    }
+
+    private static OutboxEventType toggleType(boolean enabled) {
+        return enabled ? OutboxEventType.ENABLED : OutboxEventType.DISABLED;
+    }
+
+    private static Update enabledUpdate(boolean enabled, Instant now) {
+        return new Update().set("enabled", enabled).set("updatedAt", now);
     }
 
     public Page<AdminProductResponse> getAdminProducts(Pageable pageable) {
-        return productRepository.findAll(pageable)
+        return productRepository.findLiveProducts(pageable)
                 .map(AdminProductResponse::from);
     }
 
+    /**
+     * Soft delete: products become disabled tombstones, so the changes
+     * feed can report the deletion until {@value Product#TOMBSTONE_TTL}
+     * later, when Mongo removes them.
+     */
     public void deleteProducts(List<String> skus) {
-        List<Product> products = productRepository.findAllBySkuIn(skus);
-        if (products.isEmpty()) {
+        Instant now = Instant.now();
+        List<String> deleted = outbox.write(() -> {
+            Set<String> existing = findExistingSkus(skus);
+            List<String> found = skus.stream().distinct()
+                    .filter(existing::contains).toList();
+            if (!found.isEmpty()) {
+                mongoTemplate.updateMulti(
+                        Query.query(Criteria.where("sku").in(found)
+                                .and("deleted").ne(true)),
+                        new Update().set("deleted", true)
+                                .set("deletedAt", now)
+                                .set("enabled", false)
+                                .set("updatedAt", now),
+                        Product.class);
+                outbox.append(found.stream().map(sku -> OutboxEvent.of(
+                        OutboxEventType.DELETED, sku)).toList());
+            }
+            return found;
+        });
+        if (deleted.isEmpty()) {
             return;
         }
-        productRepository.deleteAll(products);
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(deleted));
         log.info("Deleted products: {}", skus);   }
 
 
+    /**
+     * Public listing, served from a secondary when read routing is on.
+     */
     public Page<ProductResponse> getPublicProducts(Pageable pageable) {
-        return productRepository
-                .findAllByEnabledTrue(pageable)
-                .map(ProductResponse::from);
+        return readRouter.stale("findPublicProducts", operations ->
+                PublicProductQueries.findPublicProducts(operations,
+                        pageable));
+    }
+
+    /**
+     * Same as {@link #getPublicProducts(Pageable)} for pages that are
+     * kept pre-rendered: right after a write they are read consistently
+     * with it, so a lagging secondary cannot put an old page back.
+     */
+    public Page<ProductResponse> getPublicProductsToCache(
+            Pageable pageable) {
+        return readRouter.readCatalog("findPublicProducts", operations ->
+                PublicProductQueries.findPublicProducts(operations,
+                        pageable));
+    }
+
+    /**
+     * Public listing within a price range, read as a covered range scan
+     * over the {@value Product#PUBLIC_PRICE_INDEX} index. Either bound may
+     * be {@code null}.
+     */
+    public Page<ProductResponse> getPublicProducts(Pageable pageable,
+                                                   BigDecimal minPrice,
+                                                   BigDecimal maxPrice) {
+        if (minPrice == null && maxPrice == null) {
+            return getPublicProducts(pageable);
+        }
+        if (minPrice != null && maxPrice != null
+                && minPrice.compareTo(maxPrice) > 0) {
+            throw new InvalidPriceRangeException(minPrice, maxPrice);
+        }
+        return readRouter.stale("findPublicProductsByPrice", operations ->
+                PublicProductQueries.findPublicProductsByPrice(operations,
+                        minPrice, maxPrice, pageable));
     }
 
     public ProductResponse getPublicProductBySku(String sku) {
-        Product product = productRepository.findBySku(sku)
-                .filter(Product::isEnabled).orElseThrow(
-                        () -> new ProductNotFoundException(sku));
+        return productCache.get(sku, this::loadPublicProduct);
+    }
+
+    private ProductResponse loadPublicProduct(String sku) {
+        return readRouter.read("findPublicProductBySku", List.of(sku),
+                        operations -> PublicProductQueries
+                                .findPublicProductBySku(operations, sku))
+                .orElseThrow(() -> new ProductNotFoundException(sku));
+    }
+
+    /**
+     * Resolves many SKUs at once: cached entries first, the rest with a
+     * single {@code $in} query projected to the public fields. Products
+     * are returned in request order; unknown and disabled SKUs are
+     * reported in {@code notFound}.
+     */
+    public ProductLookupResponse lookupPublicProducts(List<String> skus) {
+        List<String> distinct = skus.stream().distinct().toList();
+        int maxSkus = properties.getLookup().getMaxSkus();
+        if (distinct.size() > maxSkus) {
+            throw new LookupLimitExceededException(distinct.size(), maxSkus);
+        }
+
+        Map<String, ProductResponse> found =
+                new HashMap<>(productCache.getAllPresent(distinct));
+        List<String> misses = distinct.stream()
+                .filter(sku -> !found.containsKey(sku)).toList();
+        if (!misses.isEmpty()) {
+            readRouter.read("findPublicProductsBySkuIn", misses,
+                            operations -> PublicProductQueries
+                                    .findPublicProductsBySkuIn(operations,
+                                            misses))
+                    .forEach(product -> found.put(product.sku(), product));
+        }
 
-        return ProductResponse.from(product);
+        List<ProductResponse> products = new ArrayList<>(found.size());
+        List<String> notFound = new ArrayList<>();
+        for (String sku : distinct) {
+            ProductResponse product = found.get(sku);
+            if (product != null) {
+                products.add(product);
+            } else {
+                notFound.add(sku);
+            }
+        }
+        return new ProductLookupResponse(products, notFound);
     }
 
     public AdminProductResponse getAdminProduct(String sku) {
@@ -0,0 +1,132 @@
+package com.akul.microservices.product.service;
+
+import com.akul.microservices.product.config.ProductProperties;
+import com.akul.microservices.product.dto.PriceBucket;
+import com.akul.microservices.product.dto.ProductStats;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Catalog statistics for admin dashboards, computed by one aggregation:
+ * a {@code $facet} with the totals and price summary next to an
+ * automatically bucketed price histogram.
+ *
+ * <p>Results are kept for {@code product.stats.ttl}, so dashboards that
+ * refresh every few seconds share one collection scan; concurrent
+ * requests for the same histogram wait for the same computation.
+ *
+ * @author Andrii Kulynych
+ * @since 2/12/2026
+ */
+@Service
+public class ProductStatsService {
+
+    private static final String PRICE_FIELD = "priceValue";
+
+    private final MongoTemplate mongoTemplate;
+    private final ProductProperties.Stats config;
+    private final Cache<Integer, ProductStats> cache;
+
+    public ProductStatsService(MongoTemplate mongoTemplate,
+                               ProductProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.config = properties.getStats();
+        Duration ttl = config.getTtl();
+        this.cache = ttl.isZero() ? null : Caffeine.newBuilder()
+                .maximumSize(config.getMaxBuckets())
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public ProductStats getStats(int buckets) {
+        int bounded = Math.clamp(buckets, 1, config.getMaxBuckets());
+        return cache == null
+                ? compute(bounded) : cache.get(bounded, this::compute);
+    }
+
+    private ProductStats compute(int buckets) {
+        Document summary = new Document("_id", null)
+                .append("total", new Document("$sum", 1))
+                .append("enabled", new Document("$sum", new Document(
+                        "$cond", List.of("$enabled", 1, 0))))
+                .append("min", new Document("$min", "$" + PRICE_FIELD))
+                .append("max", new Document("$max", "$" + PRICE_FIELD))
+                .append("avg", new Document("$avg", "$" + PRICE_FIELD));
+        Document histogram = new Document("groupBy", "$" + PRICE_FIELD)
+                .append("buckets", buckets);
+
+        List<AggregationOperation> pipeline = List.of(
+                stage("$match", new Document("deleted",
+                        new Document("$ne", true))),
+                stage("$project", new Document("enabled", 1)
+                        .append(PRICE_FIELD, new Document("$convert",
+                                new Document("input", "$price")
+                                        .append("to", "decimal")
+                                        .append("onError", null)
+                                        .append("onNull", null)))),
+                stage("$facet", new Document()
+                        .append("summary", List.of(
+                                new Document("$group", summary)))
+                        .append("histogram", List.of(
+                                new Document("$match", new Document(
+                                        PRICE_FIELD,
+                                        new Document("$ne", null))),
+                                new Document("$bucketAuto", histogram)))));
+
+        Document result = mongoTemplate.aggregate(
+                        Aggregation.newAggregation(pipeline), "product",
+                        Document.class)
+                .getUniqueMappedResult();
+        return toStats(result);
+    }
+
+    private static ProductStats toStats(Document result) {
+        List<Document> summaries = result == null
+                ? List.of() : result.getList("summary", Document.class);
+        Document summary = summaries.isEmpty()
+                ? new Document() : summaries.get(0);
+        long total = number(summary, "total");
+        long enabled = number(summary, "enabled");
+
+        List<PriceBucket> histogram = result == null ? List.of()
+                : result.getList("histogram", Document.class).stream()
+                .map(bucket -> {
+                    Document range = bucket.get("_id", Document.class);
+                    return new PriceBucket(decimal(range, "min"),
+                            decimal(range, "max"), number(bucket, "count"));
+                })
+                .toList();
+
+        BigDecimal avg = decimal(summary, "avg");
+        return new ProductStats(total, enabled, total - enabled,
+                decimal(summary, "min"), decimal(summary, "max"),
+                avg == null ? null : avg.setScale(2, RoundingMode.HALF_UP),
+                histogram, Instant.now());
+    }
+
+    private static long number(Document document, String key) {
+        Number value = document.get(key, Number.class);
+        return value == null ? 0 : value.longValue();
+    }
+
+    private static BigDecimal decimal(Document document, String key) {
+        Decimal128 value = document.get(key, Decimal128.class);
+        return value == null ? null : value.bigDecimalValue();
+    }
+
+    private static AggregationOperation stage(String name, Object body) {
+        return context -> new Document(name, body);
+    }
+}
@@ -0,0 +1,40 @@
+package com.akul.microservices.product.service;
+
+import com.akul.microservices.product.dto.ProductResponse;
+import com.akul.microservices.product.exception.ProductNotFoundException;
+import com.akul.microservices.product.repository.ReactiveProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive mirror of the public reads in {@link ProductService}.
+ *
+ * @author Andrii Kulynych
+ * @since 1/30/2026
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveProductService {
+
+    private final ReactiveProductRepository productRepository;
+
+    public Mono<Page<ProductResponse>> getPublicProducts(Pageable pageable) {
+        return productRepository.findPublicProducts(pageable)
+                .collectList()
+                .zipWith(productRepository.countByEnabledTrue())
+                .map(page -> new PageImpl<>(
+                        page.getT1(), pageable, page.getT2()));
+    }
+
+    public Mono<ProductResponse> getPublicProductBySku(String sku) {
+        return productRepository.findPublicProductBySku(sku)
+                .switchIfEmpty(Mono.error(
+                        () -> new ProductNotFoundException(sku)));
+    }
+}
@@ -0,0 +1,75 @@
+package com.akul.microservices.product.service;
+
+import com.akul.microservices.product.exception.InvalidScrollRequestException;
+import com.akul.microservices.product.model.Product;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token of a keyset scroll: the sort it belongs to
+ * and the sort key of the last returned document, plus its {@code _id}
+ * when the key is not unique.
+ *
+ * @author Andrii Kulynych
+ * @since 1/19/2026
+ */
+public record ScrollCursor(String sortBy,
+                           Sort.Direction direction,
+                           String id,
+                           String value) {
+
+    public static final String SKU = "sku";
+    public static final String CREATED_AT = "createdAt";
+
+    /**
+     * SKU cursors carry no {@code _id}: the SKU is unique, and public
+     * scrolls read a projection without it.
+     */
+    public static ScrollCursor after(Product last, String sortBy,
+                                     Sort.Direction direction) {
+        if (SKU.equals(sortBy)) {
+            return new ScrollCursor(sortBy, direction, "", last.getSku());
+        }
+        return new ScrollCursor(sortBy, direction, last.getId(),
+                String.valueOf(last.getCreatedAt().toEpochMilli()));
+    }
+
+    /**
+     * @return the sort key converted to the type stored in Mongo
+     */
+    public Object sortValue() {
+        if (CREATED_AT.equals(sortBy)) {
+            return Instant.ofEpochMilli(Long.parseLong(value));
+        }
+        return value;
+    }
+
+    public String encode() {
+        String raw = sortBy + ':' + direction + ':' + id + ':' + value;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ScrollCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token),
+                    StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 4);
+            ScrollCursor cursor = new ScrollCursor(parts[0],
+                    Sort.Direction.valueOf(parts[1]), parts[2], parts[3]);
+            cursor.sortValue();
+            if (!SKU.equals(cursor.sortBy())
+                    && !ObjectId.isValid(cursor.id())) {
+                throw new IllegalArgumentException(cursor.id());
+            }
+            return cursor;
+        } catch (IllegalArgumentException
+                 | ArrayIndexOutOfBoundsException ex) {
+            throw new InvalidScrollRequestException("Malformed cursor");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.akul.microservices.product.service;
+
+import com.akul.microservices.product.exception.InvalidSearchRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token of a search: the sort it belongs to, the
+ * sort value (text score or price) and the SKU of the last returned
+ * product, which breaks ties.
+ *
+ * @author Andrii Kulynych
+ * @since 2/10/2026
+ */
+public record SearchCursor(String sortBy,
+                           Sort.Direction direction,
+                           String value,
+                           String sku) {
+
+    public String encode() {
+        String raw = sortBy + ':' + direction + ':' + value + ':' + sku;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token),
+                    StandardCharsets.UTF_8);
+            // the SKU goes last, so it may contain the separator
+            String[] parts = raw.split(":", 4);
+            return new SearchCursor(parts[0],
+                    Sort.Direction.valueOf(parts[1]), parts[2], parts[3]);
+        } catch (IllegalArgumentException
+                 | ArrayIndexOutOfBoundsException ex) {
+            throw new InvalidSearchRequestException("Malformed cursor");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.akul.microservices.product;
+
+import com.akul.microservices.product.event.ProductChangedEvent;
+import io.restassured.RestAssured;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Shared Testcontainers setup for integration tests and benchmarks.
+ * The container is started once per JVM; documents are removed between
+ * tests instead of dropping the database so declared indexes survive.
+ *
+ * @author Andrii Kulynych
+ * @since 1/12/2026
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public abstract class AbstractMongoIntegrationTest {
+
+    protected static final MongoDBContainer MONGO =
+            new MongoDBContainer(DockerImageName.parse("mongo:7.0.5"));
+
+    static {
+        MONGO.start();
+    }
+
+    @LocalServerPort
+    protected Integer port;
+
+    @Autowired
+    protected MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", MONGO::getReplicaSetUrl);
+    }
+
+    @BeforeEach
+    void resetState() {
+        mongoTemplate.getCollectionNames().forEach(name ->
+                mongoTemplate.getCollection(name).deleteMany(new Document()));
+        eventPublisher.publishEvent(ProductChangedEvent.allProducts());
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+    }
+}
@@ -0,0 +1,104 @@
+package com.akul.microservices.product;
+
+import com.akul.microservices.product.model.Product;
+import com.akul.microservices.product.support.MongoCommandCounter;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static io.restassured.RestAssured.given;
+
+@Import(MongoCommandCounter.Config.class)
+class AdminAtomicUpdateTests extends AbstractMongoIntegrationTest {
+
+    @Autowired
+    private MongoCommandCounter counter;
+
+    @Test
+    void shouldUpdateWithSingleFindAndModify() {
+        mongoTemplate.insert(product("ATOM-1", true));
+        counter.reset();
+
+        given()
+                .contentType("application/json")
+                .body("""
+                        { "name": "Renamed", "price": 42 }
+                        """)
+                .put("/api/v1/admin/products/ATOM-1")
+                .then()
+                .statusCode(200)
+                .body("name", Matchers.equalTo("Renamed"))
+                .body("price", Matchers.equalTo(42))
+                .body("enabled", Matchers.equalTo(true))
+                .body("updatedAt", Matchers.notNullValue());
+
+        Assertions.assertEquals(List.of("findAndModify"),
+                counter.commands());
+    }
+
+    @Test
+    void shouldToggleWithSingleUpdate() {
+        mongoTemplate.insert(product("ATOM-2", true));
+        counter.reset();
+
+        given()
+                .patch("/api/v1/admin/products/ATOM-2/disable")
+                .then()
+                .statusCode(204);
+
+        Assertions.assertEquals(List.of("update"), counter.commands());
+        Assertions.assertFalse(find("ATOM-2").isEnabled());
+
+        given()
+                .patch("/api/v1/admin/products/MISSING/enable")
+                .then()
+                .statusCode(404);
+    }
+
+    @Test
+    void shouldToggleManySkusPerChunk() {
+        List<String> skus = IntStream.range(0, 2_500)
+                .mapToObj(i -> "BULK-" + i).toList();
+        mongoTemplate.insertAll(skus.stream()
+                .map(sku -> product(sku, true)).toList());
+        counter.reset();
+
+        List<String> request = new ArrayList<>(skus);
+        request.add("BULK-MISSING");
+        given()
+                .contentType("application/json")
+                .body(request)
+                .patch("/api/v1/admin/products/batch/disable")
+                .then()
+                .statusCode(200)
+                .body("requested", Matchers.equalTo(2_501))
+                .body("matched", Matchers.equalTo(2_500))
+                .body("modified", Matchers.equalTo(2_500));
+
+        // default chunk size is 1000
+        Assertions.assertEquals(List.of("update", "update", "update"),
+                counter.commands());
+        Assertions.assertEquals(0, mongoTemplate.count(
+                Query.query(Criteria.where("enabled").is(true)),
+                Product.class));
+    }
+
+    private Product find(String sku) {
+        return mongoTemplate.findOne(
+                Query.query(Criteria.where("sku").is(sku)), Product.class);
+    }
+
+    private static Product product(String sku, boolean enabled) {
+        return Product.builder().sku(sku).name(sku)
+                .price(BigDecimal.TEN).enabled(enabled).build();
+    }
+}
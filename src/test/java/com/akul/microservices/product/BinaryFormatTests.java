@@ -0,0 +1,101 @@
+package com.akul.microservices.product;
+
+import com.akul.microservices.product.dto.ProductResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.restassured.response.Response;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryFormatTests extends AbstractMongoIntegrationTest {
+
+    private static final String CBOR = "application/cbor";
+    private static final String SMILE = "application/x-jackson-smile";
+
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory())
+            .findAndRegisterModules();
+    private final ObjectMapper smile = new ObjectMapper(new SmileFactory())
+            .findAndRegisterModules();
+
+    @BeforeEach
+    void seed() {
+        given()
+                .contentType("application/json")
+                .body("""
+                        { "sku": "BIN-1", "name": "Binary", "description":
+                          "Encoded", "price": 19.90 }
+                        """)
+                .post("/api/v1/admin/products")
+                .then()
+                .statusCode(201);
+    }
+
+    @Test
+    void shouldServeProductAsCborWhenAsked() throws Exception {
+        Response response = given()
+                .accept(CBOR)
+                .get("/api/v1/products/BIN-1");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.contentType()).startsWith(CBOR);
+        ProductResponse product = cbor.readValue(
+                response.asByteArray(), ProductResponse.class);
+        assertThat(product).isEqualTo(new ProductResponse("BIN-1", "Binary",
+                "Encoded", new BigDecimal("19.90")));
+    }
+
+    @Test
+    void shouldEncodeCachedCatalogPageInRequestedFormat() throws Exception {
+        Response response = given()
+                .accept(SMILE)
+                .get("/api/v1/products?page=0&size=12");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.contentType()).startsWith(SMILE);
+        JsonNode page = smile.readTree(response.asByteArray());
+        assertThat(page.get("content").get(0).get("sku").asText())
+                .isEqualTo("BIN-1");
+    }
+
+    @Test
+    void shouldKeepJsonForBrowsersAndWildcards() {
+        for (String accept : new String[] {"*/*",
+                "text/html,application/xhtml+xml,*/*;q=0.8"}) {
+            given()
+                    .accept(accept)
+                    .get("/api/v1/products/BIN-1")
+                    .then()
+                    .statusCode(200)
+                    .contentType(Matchers.startsWith("application/json"))
+                    .body("sku", Matchers.equalTo("BIN-1"));
+        }
+    }
+
+    @Test
+    void shouldAcceptCborAdminRequests() throws Exception {
+        byte[] body = cbor.writeValueAsBytes(Map.of("sku", "BIN-2",
+                "name", "From CBOR", "price", new BigDecimal("5.00")));
+
+        Response response = given()
+                .contentType(CBOR)
+                .accept(CBOR)
+                .body(body)
+                .post("/api/v1/admin/products");
+
+        assertThat(response.statusCode()).isEqualTo(201);
+        JsonNode created = cbor.readTree(response.asByteArray());
+        assertThat(created.get("sku").asText()).isEqualTo("BIN-2");
+        assertThat(created.get("enabled").asBoolean()).isTrue();
+        assertThat(created.get("price").decimalValue())
+                .isEqualByComparingTo("5.00");
+    }
+}
@@ -0,0 +1,120 @@
+package com.akul.microservices.product;
+
+import com.akul.microservices.product.migration.PriceStorageMigration;
+import com.akul.microservices.product.model.Product;
+import com.akul.microservices.product.repository.ProductRepository;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceStorageTests extends AbstractMongoIntegrationTest {
+
+    @Autowired
+    private PriceStorageMigration migration;
+
+    @Test
+    void shouldStorePricesAsDecimal128() {
+        create("NUM-1", "19.90");
+
+        Object price = rawPrice("NUM-1");
+        assertThat(price).isInstanceOf(Decimal128.class);
+        assertThat(((Decimal128) price).bigDecimalValue())
+                .isEqualTo(new BigDecimal("19.90"));
+    }
+
+    @Test
+    void shouldFilterListingByNumericPriceRange() {
+        // as strings, "100" sorts before "9"
+        for (String price : List.of("9", "10", "100", "1000")) {
+            create("RANGE-" + price, price);
+        }
+
+        given()
+                .queryParam("minPrice", 10)
+                .queryParam("maxPrice", 100)
+                .get("/api/v1/products")
+                .then()
+                .statusCode(200)
+                .body("content.sku",
+                        Matchers.contains("RANGE-10", "RANGE-100"))
+                .body("totalElements", Matchers.equalTo(2));
+
+        Document explain = mongoTemplate.executeCommand(new Document(
+                "explain", new Document("find", "product")
+                .append("filter", new Document("enabled", true)
+                        .append("price", new Document("$gte",
+                                new Decimal128(BigDecimal.TEN))))
+                .append("sort", new Document("price", 1).append("sku", 1))
+                .append("projection",
+                        Document.parse(ProductRepository.PUBLIC_FIELDS))
+                .append("hint", Product.PUBLIC_PRICE_INDEX))
+                .append("verbosity", "executionStats"));
+        Document stats = explain.get("executionStats", Document.class);
+        assertThat(stats.getInteger("nReturned")).isEqualTo(3);
+        assertThat(stats.getInteger("totalDocsExamined")).isZero();
+    }
+
+    @Test
+    void shouldRejectInvertedPriceRange() {
+        given()
+                .queryParam("minPrice", 50)
+                .queryParam("maxPrice", 10)
+                .get("/api/v1/products")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void shouldMigrateStringPricesInBatches() {
+        List<Document> legacy = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            legacy.add(new Document("sku", "LEGACY-" + i)
+                    .append("name", "Legacy " + i)
+                    .append("price", String.valueOf(i + 0.5))
+                    .append("enabled", true));
+        }
+        legacy.add(new Document("sku", "LEGACY-BAD")
+                .append("name", "Not a number").append("price", "n/a")
+                .append("enabled", true));
+        mongoTemplate.getCollection("product").insertMany(legacy);
+
+        assertThat(migration.migrate()).isEqualTo(25);
+        assertThat(rawPrice("LEGACY-7")).isEqualTo(
+                new Decimal128(new BigDecimal("7.5")));
+        assertThat(rawPrice("LEGACY-BAD")).isEqualTo("n/a");
+        assertThat(migration.migrate()).isZero();
+
+        given()
+                .queryParam("minPrice", 20)
+                .get("/api/v1/products")
+                .then()
+                .statusCode(200)
+                .body("content.sku", Matchers.contains("LEGACY-20",
+                        "LEGACY-21", "LEGACY-22", "LEGACY-23", "LEGACY-24"));
+    }
+
+    private static void create(String sku, String price) {
+        given()
+                .contentType("application/json")
+                .body("""
+                        { "sku": "%s", "name": "%s", "price": %s }
+                        """.formatted(sku, sku, price))
+                .post("/api/v1/admin/products")
+                .then()
+                .statusCode(201);
+    }
+
+    private Object rawPrice(String sku) {
+        return mongoTemplate.getCollection("product")
+                .find(new Document("sku", sku)).first().get("price");
+    }
+}
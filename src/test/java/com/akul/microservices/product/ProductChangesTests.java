@@ -0,0 +1,184 @@
+package com.akul.microservices.product;
+
+import com.akul.microservices.product.service.ChangesWatermark;
+import io.restassured.path.json.JsonPath;
+import io.restassured.specification.RequestSpecification;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "product.changes.settle-window=0s")
+class ProductChangesTests extends AbstractMongoIntegrationTest {
+
+    @Test
+    void shouldReportDisabledAndDeletedProductsAsTombstones() {
+        given()
+                .contentType("application/json")
+                .body("""
+                        [
+                          { "sku": "CH-A", "name": "A", "price": 10 },
+                          { "sku": "CH-B", "name": "B", "price": 20 },
+                          { "sku": "CH-C", "name": "C", "price": 30 }
+                        ]
+                        """)
+                .post("/api/v1/admin/products/batch")
+                .then()
+                .statusCode(201);
+        given().patch("/api/v1/admin/products/CH-B/disable")
+                .then()
+                .statusCode(204);
+        given()
+                .contentType("application/json")
+                .body("""
+                        ["CH-C"]
+                        """)
+                .delete("/api/v1/admin/products/batch")
+                .then()
+                .statusCode(204);
+
+        given()
+                .get("/api/v1/products/changes")
+                .then()
+                .statusCode(200)
+                .body("changes.sku", Matchers.contains("CH-A", "CH-B", "CH-C"))
+                .body("changes.status",
+                        Matchers.contains("ACTIVE", "DISABLED", "DELETED"))
+                .body("changes[0].name", Matchers.equalTo("A"))
+                .body("changes[2].name", Matchers.nullValue())
+                .body("hasMore", Matchers.equalTo(false));
+
+        given()
+                .get("/api/v1/admin/products/CH-C")
+                .then()
+                .statusCode(404);
+    }
+
+    @Test
+    void shouldResumeFromWatermarkWithoutSkippingTies() {
+        Instant tie = Instant.now().minusSeconds(60)
+                .truncatedTo(ChronoUnit.MILLIS);
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            documents.add(product("TIE-" + i, tie));
+        }
+        mongoTemplate.getCollection("product").insertMany(documents);
+
+        List<String> seen = new ArrayList<>();
+        String watermark = null;
+        boolean hasMore = true;
+        while (hasMore) {
+            JsonPath page = changes(watermark, 2);
+            seen.addAll(page.getList("changes.sku"));
+            watermark = page.getString("watermark");
+            hasMore = page.getBoolean("hasMore");
+        }
+        assertThat(seen).containsExactlyInAnyOrder(
+                "TIE-0", "TIE-1", "TIE-2", "TIE-3", "TIE-4");
+
+        given()
+                .contentType("application/json")
+                .body("""
+                        { "name": "Changed", "price": 5 }
+                        """)
+                .put("/api/v1/admin/products/TIE-3")
+                .then()
+                .statusCode(200);
+
+        JsonPath delta = changes(watermark, 100);
+        assertThat(delta.getList("changes.sku", String.class))
+                .containsExactly("TIE-3");
+        assertThat(changes(delta.getString("watermark"), 100)
+                .getList("changes")).isEmpty();
+    }
+
+    @Test
+    void shouldHoldBackChangesNewerThanTheSettledPoint() {
+        mongoTemplate.getCollection("product").insertOne(
+                product("LATE-1", Instant.now().plus(Duration.ofMinutes(1))));
+
+        JsonPath page = changes(null, 100);
+        assertThat(page.getList("changes")).isEmpty();
+        assertThat(ChangesWatermark.decode(page.getString("watermark"))
+                .updatedAt()).isBefore(Instant.now());
+    }
+
+    @Test
+    void shouldRejectWatermarkOlderThanTombstoneRetention() {
+        String expired = new ChangesWatermark(
+                Instant.now().minus(Duration.ofDays(31)),
+                new ObjectId().toHexString()).encode();
+
+        given()
+                .queryParam("since", expired)
+                .get("/api/v1/products/changes")
+                .then()
+                .statusCode(410);
+        given()
+                .queryParam("since", "not-a-watermark")
+                .get("/api/v1/products/changes")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void shouldCreateDeletedSkuAgain() {
+        String body = """
+                { "sku": "CH-AGAIN", "name": "First", "price": 1 }
+                """;
+        given().contentType("application/json").body(body)
+                .post("/api/v1/admin/products")
+                .then()
+                .statusCode(201);
+        given()
+                .contentType("application/json")
+                .body("""
+                        ["CH-AGAIN"]
+                        """)
+                .delete("/api/v1/admin/products/batch")
+                .then()
+                .statusCode(204);
+
+        given().contentType("application/json").body(body)
+                .post("/api/v1/admin/products")
+                .then()
+                .statusCode(201);
+        given()
+                .get("/api/v1/products/CH-AGAIN")
+                .then()
+                .statusCode(200)
+                .body("name", Matchers.equalTo("First"));
+    }
+
+    private static JsonPath changes(String since, int size) {
+        RequestSpecification request = given().queryParam("size", size);
+        if (since != null) {
+            request.queryParam("since", since);
+        }
+        return request
+                .get("/api/v1/products/changes")
+                .then()
+                .statusCode(200)
+                .extract().jsonPath();
+    }
+
+    private static Document product(String sku, Instant updatedAt) {
+        return new Document("sku", sku)
+                .append("name", sku)
+                .append("price", "10")
+                .append("enabled", true)
+                .append("createdAt", Date.from(updatedAt))
+                .append("updatedAt", Date.from(updatedAt));
+    }
+}
@@ -0,0 +1,114 @@
+package com.akul.microservices.product;
+
+import com.akul.microservices.product.model.Product;
+import io.restassured.path.json.JsonPath;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchTests extends AbstractMongoIntegrationTest {
+
+    @BeforeEach
+    void seed() {
+        mongoTemplate.insertAll(List.of(
+                product("S-1", "Trail running shoe", "Light shoe", "120"),
+                product("S-2", "Road bike", "Carbon frame, running gear",
+                        "2500"),
+                product("S-3", "Running socks", "Merino", "15"),
+                product("S-4", "Running jacket", "Windproof", "90"),
+                disabled(product("S-5", "Running cap", "Hidden", "20")),
+                product("S-6", "Tent", "Two person", "300")));
+    }
+
+    @Test
+    void shouldRankNameMatchesFirst() {
+        given()
+                .queryParam("q", "running")
+                .get("/api/v1/products/search")
+                .then()
+                .statusCode(200)
+                .body("content.sku", Matchers.hasSize(4))
+                .body("content.sku", Matchers.not(Matchers.hasItem("S-5")))
+                // description-only match has the lowest score
+                .body("content[3].sku", Matchers.equalTo("S-2"));
+    }
+
+    @Test
+    void shouldFilterAndSortByPrice() {
+        given()
+                .queryParam("q", "running")
+                .queryParam("minPrice", 20)
+                .queryParam("maxPrice", 500)
+                .queryParam("sortBy", "price")
+                .queryParam("sortDir", "desc")
+                .get("/api/v1/products/search")
+                .then()
+                .statusCode(200)
+                .body("content.sku", Matchers.contains("S-1", "S-4"))
+                .body("content[0].price", Matchers.equalTo(120));
+    }
+
+    @Test
+    void shouldContinueWithCursor() {
+        for (String sortBy : List.of("relevance", "price", "sku")) {
+            List<String> skus = new ArrayList<>();
+            String cursor = null;
+            do {
+                JsonPath page = given()
+                        .queryParam("q", "running")
+                        .queryParam("sortBy", sortBy)
+                        .queryParam("size", 1)
+                        .queryParam("cursor", cursor == null ? "" : cursor)
+                        .get("/api/v1/products/search")
+                        .then()
+                        .statusCode(200)
+                        .extract().jsonPath();
+                skus.addAll(page.getList("content.sku"));
+                cursor = page.getString("nextCursor");
+            } while (cursor != null);
+
+            assertThat(skus).as(sortBy)
+                    .containsExactlyInAnyOrder("S-1", "S-2", "S-3", "S-4");
+        }
+    }
+
+    @Test
+    void shouldRejectUnboundedSearches() {
+        given()
+                .queryParam("q", "r")
+                .get("/api/v1/products/search")
+                .then()
+                .statusCode(400);
+        given()
+                .queryParam("q", "running")
+                .queryParam("size", 1000)
+                .get("/api/v1/products/search")
+                .then()
+                .statusCode(400);
+        given()
+                .queryParam("q", "running")
+                .queryParam("sortBy", "name")
+                .get("/api/v1/products/search")
+                .then()
+                .statusCode(400);
+    }
+
+    private static Product product(String sku, String name,
+                                   String description, String price) {
+        return Product.builder().sku(sku).name(name)
+                .description(description).price(new BigDecimal(price))
+                .enabled(true).build();
+    }
+
+    private static Product disabled(Product product) {
+        product.setEnabled(false);
+        return product;
+    }
+}
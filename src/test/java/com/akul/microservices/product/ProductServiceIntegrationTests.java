@@ -1,52 +1,18 @@
 package com.akul.microservices.product;
 
-import com.mongodb.client.MongoClient;
-import com.mongodb.client.MongoClients;
-import io.restassured.RestAssured;
+import io.restassured.path.json.JsonPath;
+import io.restassured.specification.RequestSpecification;
 import org.hamcrest.Matchers;
-import org.junit.jupiter.api.AfterAll;
-import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.web.server.LocalServerPort;
-import org.springframework.context.annotation.Import;
-import org.testcontainers.containers.MongoDBContainer;
-import org.testcontainers.utility.DockerImageName;
 
-import static io.restassured.RestAssured.given;
-
-@Import(org.testcontainers.utility.TestcontainersConfiguration.class)
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
-class ProductServiceIntegrationTests {
-
-    static MongoDBContainer mongoDBContainer =
-            new MongoDBContainer(DockerImageName.parse("mongo:7.0.5"));
-
-    @LocalServerPort
-    private Integer port;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
 
-    static {
-        mongoDBContainer.start();
-        System.setProperty(
-                "spring.data.mongodb.uri",
-                mongoDBContainer.getReplicaSetUrl()
-        );
-    }
-
-    @BeforeEach
-    void setup() {
-        try (MongoClient mongoClient =
-                     MongoClients.create(mongoDBContainer.getReplicaSetUrl())) {
-            mongoClient.getDatabase("test").drop();
-        }
-        RestAssured.baseURI = "http://localhost";
-        RestAssured.port = port;
-    }
+import static io.restassured.RestAssured.given;
 
-    @AfterAll
-    static void shutdown() {
-        mongoDBContainer.stop();
-    }
+class ProductServiceIntegrationTests extends AbstractMongoIntegrationTest {
 
     // ================= ADMIN =================
 
@@ -86,6 +52,68 @@ class ProductServiceIntegrationTests {
                 .body("size()", Matchers.equalTo(2));
     }
 
+    @Test
+    void shouldReportPerItemResultsForPartiallyInvalidBatch() {
+        given()
+                .contentType("application/json")
+                .body("""
+                        { "sku": "MIX-1", "name": "Existing", "price": 10 }
+                        """)
+                .post("/api/v1/admin/products");
+
+        given()
+                .contentType("application/json")
+                .body("""
+                        [
+                          { "sku": "MIX-1", "name": "Again", "price": 10 },
+                          { "sku": "MIX-2", "name": "New", "price": 20 },
+                          { "sku": "MIX-2", "name": "Twice", "price": 20 },
+                          { "sku": "MIX-3", "name": "", "price": -1 }
+                        ]
+                        """)
+                .post("/api/v1/admin/products/batch")
+                .then()
+                .statusCode(207)
+                .body("status", Matchers.contains(
+                        "CONFLICT", "CREATED", "CONFLICT", "INVALID"))
+                .body("[1].product.sku", Matchers.equalTo("MIX-2"))
+                .body("[1].product.id", Matchers.notNullValue());
+    }
+
+    @Test
+    void shouldImportNdjsonFeed() {
+        given()
+                .contentType("application/json")
+                .body("""
+                        { "sku": "FEED-1", "name": "Old", "price": 5 }
+                        """)
+                .post("/api/v1/admin/products");
+
+        given()
+                .contentType("application/x-ndjson")
+                .body("""
+                        {"sku":"FEED-1","name":"Updated","price":6}
+                        {"sku":"FEED-2","name":"New","price":7}
+
+                        {"sku":"FEED-3","name":"","price":8}
+                        not json
+                        """)
+                .post("/api/v1/admin/products/import")
+                .then()
+                .statusCode(200)
+                .body("lines", Matchers.equalTo(5))
+                .body("inserted", Matchers.equalTo(1))
+                .body("updated", Matchers.equalTo(1))
+                .body("rejected", Matchers.equalTo(2))
+                .body("errors.line", Matchers.contains(4, 5));
+
+        given()
+                .get("/api/v1/products/FEED-1")
+                .then()
+                .statusCode(200)
+                .body("name", Matchers.equalTo("Updated"));
+    }
+
     @Test
     void shouldUpdateProduct() {
         given()
@@ -162,6 +190,55 @@ class ProductServiceIntegrationTests {
                 .body("sku", Matchers.equalTo("PUB-1"));
     }
 
+    @Test
+    void shouldNotServeCachedProductAfterWrite() {
+        given()
+                .contentType("application/json")
+                .body("""
+                        { "sku": "CACHE-1", "name": "Before", "price": 1 }
+                        """)
+                .post("/api/v1/admin/products");
+        given()
+                .get("/api/v1/products/CACHE-1")
+                .then()
+                .body("name", Matchers.equalTo("Before"));
+
+        given()
+                .contentType("application/json")
+                .body("""
+                        { "name": "After", "price": 2 }
+                        """)
+                .put("/api/v1/admin/products/CACHE-1");
+        given()
+                .get("/api/v1/products/CACHE-1")
+                .then()
+                .statusCode(200)
+                .body("name", Matchers.equalTo("After"));
+
+        given().patch("/api/v1/admin/products/CACHE-1/disable");
+        given()
+                .get("/api/v1/products/CACHE-1")
+                .then()
+                .statusCode(404);
+
+        given().patch("/api/v1/admin/products/CACHE-1/enable");
+        given()
+                .get("/api/v1/products/CACHE-1")
+                .then()
+                .statusCode(200);
+
+        given()
+                .contentType("application/json")
+                .body("""
+                        ["CACHE-1"]
+                        """)
+                .delete("/api/v1/admin/products/batch");
+        given()
+                .get("/api/v1/products/CACHE-1")
+                .then()
+                .statusCode(404);
+    }
+
     @Test
     void shouldReturnAllEnabledProducts() {
         given()
@@ -182,6 +259,241 @@ class ProductServiceIntegrationTests {
     }
 
 
+    @Test
+    void shouldExportEnabledCatalogAsNdjsonAndCsv() {
+        given()
+                .contentType("application/json")
+                .body("""
+                        [
+                          { "sku": "EXP-1", "name": "One", "price": 10.5 },
+                          { "sku": "EXP-2", "name": "Two, \\"quoted\\"",
+                            "price": 20 },
+                          { "sku": "EXP-3", "name": "Hidden", "price": 30 }
+                        ]
+                        """)
+                .post("/api/v1/admin/products/batch");
+        given().patch("/api/v1/admin/products/EXP-3/disable");
+
+        String ndjson = given()
+                .get("/api/v1/products/export")
+                .then()
+                .statusCode(200)
+                .contentType("application/x-ndjson")
+                .extract().asString();
+        Assertions.assertEquals(2, ndjson.lines().count());
+        Assertions.assertTrue(ndjson.startsWith("{\"sku\":\"EXP-1\""));
+
+        given()
+                .queryParam("format", "csv")
+                .get("/api/v1/products/export")
+                .then()
+                .statusCode(200)
+                .contentType("text/csv")
+                .body(Matchers.equalTo("sku,name,description,price\r\n"
+                        + "EXP-1,One,,10.5\r\n"
+                        + "EXP-2,\"Two, \"\"quoted\"\"\",,20\r\n"));
+
+        given()
+                .queryParam("format", "xml")
+                .get("/api/v1/products/export")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void shouldScrollWithContinuationCursor() {
+        given()
+                .contentType("application/json")
+                .body("""
+                        [
+                          { "sku": "S-1", "name": "P1", "price": 10 },
+                          { "sku": "S-2", "name": "P2", "price": 20 },
+                          { "sku": "S-3", "name": "P3", "price": 30 },
+                          { "sku": "S-4", "name": "P4", "price": 40 },
+                          { "sku": "S-5", "name": "P5", "price": 50 }
+                        ]
+                        """)
+                .post("/api/v1/admin/products/batch");
+
+        String cursor = given()
+                .queryParam("size", 3)
+                .get("/api/v1/products/scroll")
+                .then()
+                .statusCode(200)
+                .body("content.sku", Matchers.contains("S-1", "S-2", "S-3"))
+                .body("hasNext", Matchers.equalTo(true))
+                .body("$", Matchers.not(Matchers.hasKey("totalElements")))
+                .extract().path("nextCursor");
+
+        given()
+                .queryParam("size", 3)
+                .queryParam("cursor", cursor)
+                .get("/api/v1/products/scroll")
+                .then()
+                .statusCode(200)
+                .body("content.sku", Matchers.contains("S-4", "S-5"))
+                .body("hasNext", Matchers.equalTo(false))
+                .body("nextCursor", Matchers.nullValue());
+
+        // batch inserts share createdAt, so the walk relies on _id ties
+        Set<String> seen = new HashSet<>();
+        String adminCursor = null;
+        do {
+            RequestSpecification request = given().queryParam("size", 2);
+            if (adminCursor != null) {
+                request.queryParam("cursor", adminCursor);
+            }
+            JsonPath slice = request.get("/api/v1/admin/products/scroll")
+                    .then()
+                    .statusCode(200)
+                    .extract().jsonPath();
+            seen.addAll(slice.getList("content.sku", String.class));
+            adminCursor = slice.getString("nextCursor");
+        } while (adminCursor != null);
+        Assertions.assertEquals(5, seen.size());
+
+        given()
+                .queryParam("cursor", cursor)
+                .get("/api/v1/admin/products/scroll")
+                .then()
+                .statusCode(400);
+
+        given()
+                .queryParam("size", 101)
+                .get("/api/v1/products/scroll")
+                .then()
+                .statusCode(400)
+                .body("message", Matchers.equalTo(
+                        "Size must be between 1 and 100"));
+    }
+
+    @Test
+    void shouldAnswerUnchangedCatalogPageWithNotModified() {
+        given()
+                .contentType("application/json")
+                .body("""
+                        { "sku": "ETAG-1", "name": "One", "price": 10 }
+                        """)
+                .post("/api/v1/admin/products");
+
+        String etag = given()
+                .get("/api/v1/products")
+                .then()
+                .statusCode(200)
+                .header("ETag", Matchers.startsWith("\""))
+                .body("content.sku", Matchers.hasItem("ETAG-1"))
+                .extract().header("ETag");
+
+        given()
+                .header("If-None-Match", etag)
+                .get("/api/v1/products")
+                .then()
+                .statusCode(304);
+
+        given()
+                .contentType("application/json")
+                .body("""
+                        { "sku": "ETAG-2", "name": "Two", "price": 20 }
+                        """)
+                .post("/api/v1/admin/products");
+
+        given()
+                .header("If-None-Match", etag)
+                .get("/api/v1/products")
+                .then()
+                .statusCode(200)
+                .header("ETag", Matchers.not(etag))
+                .body("content.sku", Matchers.hasItems("ETAG-1", "ETAG-2"));
+    }
+
+    @Test
+    void shouldLookupManySkusInOneCall() {
+        given()
+                .contentType("application/json")
+                .body("""
+                        [
+                          { "sku": "LK-1", "name": "One", "price": 1 },
+                          { "sku": "LK-2", "name": "Two", "price": 2 },
+                          { "sku": "LK-3", "name": "Three", "price": 3 }
+                        ]
+                        """)
+                .post("/api/v1/admin/products/batch")
+                .then()
+                .statusCode(201);
+        given()
+                .patch("/api/v1/admin/products/LK-3/disable")
+                .then()
+                .statusCode(204);
+        // warm the near-cache for one of the SKUs
+        given().get("/api/v1/products/LK-2").then().statusCode(200);
+
+        given()
+                .contentType("application/json")
+                .body("""
+                        ["LK-2", "LK-1", "LK-3", "LK-404", "LK-1"]
+                        """)
+                .post("/api/v1/products/lookup")
+                .then()
+                .statusCode(200)
+                .body("products.sku", Matchers.contains("LK-2", "LK-1"))
+                .body("products[1].name", Matchers.equalTo("One"))
+                .body("notFound", Matchers.contains("LK-3", "LK-404"));
+
+        given()
+                .queryParam("sku", "LK-1", "LK-404")
+                .get("/api/v1/products/lookup")
+                .then()
+                .statusCode(200)
+                .body("products.sku", Matchers.contains("LK-1"))
+                .body("notFound", Matchers.contains("LK-404"));
+    }
+
+    @Test
+    void shouldRejectLookupAboveLimit() {
+        given()
+                .contentType("application/json")
+                .body(IntStream.range(0, 101)
+                        .mapToObj(i -> "SKU-" + i).toList())
+                .post("/api/v1/products/lookup")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void shouldComputeAdminStatsInOneAggregation() {
+        given()
+                .contentType("application/json")
+                .body("""
+                        [
+                          { "sku": "ST-1", "name": "One", "price": 10 },
+                          { "sku": "ST-2", "name": "Two", "price": 20 },
+                          { "sku": "ST-3", "name": "Three", "price": 30 }
+                        ]
+                        """)
+                .post("/api/v1/admin/products/batch")
+                .then()
+                .statusCode(201);
+        given()
+                .patch("/api/v1/admin/products/ST-3/disable")
+                .then()
+                .statusCode(204);
+
+        given()
+                .queryParam("buckets", 2)
+                .get("/api/v1/admin/products/stats")
+                .then()
+                .statusCode(200)
+                .body("total", Matchers.equalTo(3))
+                .body("enabled", Matchers.equalTo(2))
+                .body("disabled", Matchers.equalTo(1))
+                .body("minPrice", Matchers.equalTo(10))
+                .body("maxPrice", Matchers.equalTo(30))
+                .body("avgPrice", Matchers.equalTo(20.00f))
+                .body("priceHistogram", Matchers.hasSize(2))
+                .body("priceHistogram.sum { it.count }",
+                        Matchers.equalTo(3));
+    }
+
     @Test
     void shouldNotReturnDisabledProduct() {
         given()
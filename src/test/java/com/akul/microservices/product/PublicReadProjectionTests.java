@@ -0,0 +1,82 @@
+package com.akul.microservices.product;
+
+import com.akul.microservices.product.model.Product;
+import com.akul.microservices.product.repository.ProductRepository;
+import org.bson.Document;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicReadProjectionTests extends AbstractMongoIntegrationTest {
+
+    @Test
+    void shouldServePublicReadsFromProjection() {
+        mongoTemplate.insertAll(List.of(
+                product("PRJ-1", true), product("PRJ-2", false)));
+
+        given()
+                .get("/api/v1/products/PRJ-1")
+                .then()
+                .statusCode(200)
+                .body("sku", Matchers.equalTo("PRJ-1"))
+                .body("name", Matchers.equalTo("Name PRJ-1"))
+                .body("description", Matchers.equalTo("Description"))
+                .body("price", Matchers.equalTo(12.5f))
+                .body("$", Matchers.not(Matchers.hasKey("id")));
+
+        given()
+                .get("/api/v1/products/PRJ-2")
+                .then()
+                .statusCode(404);
+
+        given()
+                .get("/api/v1/products?size=100")
+                .then()
+                .statusCode(200)
+                .body("content.sku", Matchers.contains("PRJ-1"))
+                .body("totalElements", Matchers.equalTo(1));
+    }
+
+    @Test
+    void shouldAnswerPublicLookupsFromIndexOnly() {
+        mongoTemplate.insert(product("PRJ-3", true));
+
+        Document bySku = explain(new Document("enabled", true)
+                .append("sku", "PRJ-3"), null);
+        Document listing = explain(new Document("enabled", true),
+                new Document("sku", 1).append("name", 1).append("price", 1)
+                        .append("createdAt", 1));
+
+        for (Document explain : List.of(bySku, listing)) {
+            Document stats = explain.get("executionStats", Document.class);
+            assertThat(stats.getInteger("nReturned")).isEqualTo(1);
+            assertThat(stats.getInteger("totalDocsExamined")).isZero();
+        }
+    }
+
+    private Document explain(Document filter, Document sort) {
+        Document find = new Document("find", "product")
+                .append("filter", filter)
+                .append("projection",
+                        Document.parse(ProductRepository.PUBLIC_FIELDS))
+                .append("hint", Product.PUBLIC_READ_INDEX);
+        if (sort != null) {
+            find.append("sort", sort);
+        }
+        return mongoTemplate.executeCommand(new Document("explain", find)
+                .append("verbosity", "executionStats"));
+    }
+
+    private static Product product(String sku, boolean enabled) {
+        Instant now = Instant.now();
+        return Product.builder().sku(sku).name("Name " + sku)
+                .description("Description").price(new BigDecimal("12.5"))
+                .createdAt(now).updatedAt(now).enabled(enabled).build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.akul.microservices.product;
+
+import com.akul.microservices.product.model.Product;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("reactive")
+class ReactiveReadApiTests extends AbstractMongoIntegrationTest {
+
+    @Autowired
+    private ReactiveWebServerApplicationContext context;
+
+    @Test
+    void shouldRunOnNetty() {
+        assertThat(context.getWebServer()).isInstanceOf(NettyWebServer.class);
+    }
+
+    @Test
+    void shouldServePublicReadsFromReactiveStack() {
+        mongoTemplate.insertAll(List.of(
+                product("RX-1", true),
+                product("RX-2", true),
+                product("RX-3", false)));
+
+        given()
+                .get("/api/v1/products/RX-1")
+                .then()
+                .statusCode(200)
+                .body("sku", Matchers.equalTo("RX-1"));
+
+        given()
+                .get("/api/v1/products/RX-3")
+                .then()
+                .statusCode(404);
+
+        given()
+                .queryParam("size", 1)
+                .get("/api/v1/products")
+                .then()
+                .statusCode(200)
+                .body("content.sku", Matchers.contains("RX-1"))
+                .body("totalElements", Matchers.equalTo(2));
+
+        given()
+                .contentType("application/json")
+                .body("""
+                        { "sku": "RX-4", "name": "Write", "price": 1 }
+                        """)
+                .post("/api/v1/admin/products")
+                .then()
+                .statusCode(404);
+    }
+
+    private static Product product(String sku, boolean enabled) {
+        return Product.builder().sku(sku).name(sku)
+                .price(BigDecimal.TEN).enabled(enabled).build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.akul.microservices.product.benchmark;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import com.akul.microservices.product.dto.ProductRequest;
+import com.akul.microservices.product.model.Product;
+import com.akul.microservices.product.service.ProductService;
+import org.bson.Document;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the former one-by-one batch create loop with the bulk ingest
+ * path. Run with {@code mvn test -Pbenchmarks}.
+ *
+ * @author Andrii Kulynych
+ * @since 1/12/2026
+ */
+@Tag("benchmark")
+class BatchIngestBenchmark extends AbstractMongoIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000, 100_000})
+    void compareLoopWithBulkIngest(int items) {
+        List<ProductRequest> requests = IntStream.range(0, items)
+                .mapToObj(i -> new ProductRequest("BENCH-" + i,
+                        "Product " + i, "Benchmark product",
+                        BigDecimal.valueOf(10 + i % 500)))
+                .toList();
+
+        Duration loop = time(() ->
+                requests.forEach(productService::createAdminProduct));
+        assertThat(count()).isEqualTo(items);
+
+        mongoTemplate.getCollection("product").deleteMany(new Document());
+
+        Duration bulk = time(() ->
+                productService.createAdminProducts(requests));
+        assertThat(count()).isEqualTo(items);
+
+        System.out.printf("batch-ingest items=%d loop=%dms bulk=%dms "
+                        + "speedup=%.1fx%n", items, loop.toMillis(),
+                bulk.toMillis(),
+                (double) loop.toNanos() / Math.max(1, bulk.toNanos()));
+    }
+
+    private long count() {
+        return mongoTemplate.count(new Query(), Product.class);
+    }
+
+    private static Duration time(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,115 @@
+package com.akul.microservices.product.benchmark;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Public listing latency alone and while admin clients keep pushing bulk
+ * NDJSON imports. The admin bulkhead caps concurrent imports and the
+ * adaptive limit sheds public reads instead of letting them queue, so
+ * p99 of the served reads should stay close to the baseline.
+ *
+ * @author Andrii Kulynych
+ * @since 4/6/2026
+ */
+@Tag("benchmark")
+class BulkImportIsolationBenchmark extends AbstractMongoIntegrationTest {
+
+    private static final int READERS = 64;
+    private static final int IMPORTERS = 16;
+    private static final int IMPORT_LINES = 20_000;
+    private static final Duration DURATION = Duration.ofSeconds(30);
+    private static final double MAX_P99_RATIO = Double.parseDouble(
+            System.getProperty("isolation.max-p99-ratio", "3"));
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void publicTailLatencyHoldsDuringBulkImport() throws Exception {
+        CatalogSeeder.seed(mongoTemplate, 50_000);
+
+        LoadDriver.run("isolation-warmup", READERS, Duration.ofSeconds(10),
+                this::read);
+        LoadDriver.Result baseline = LoadDriver.run("isolation-baseline",
+                READERS, DURATION, this::read);
+
+        String feed = feed();
+        AtomicBoolean importing = new AtomicBoolean(true);
+        AtomicLong imports = new AtomicLong();
+        AtomicLong importsRejected = new AtomicLong();
+        LoadDriver.Result duringImport;
+        try (ExecutorService importers =
+                     Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < IMPORTERS; i++) {
+                importers.submit(() -> {
+                    while (importing.get()) {
+                        (LoadDriver.send(importRequest(feed))
+                                ? imports : importsRejected)
+                                .incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            duringImport = LoadDriver.run("isolation-during-import",
+                    READERS, DURATION, this::read);
+            importing.set(false);
+        }
+
+        System.out.printf("isolation imports=%d importsRejected=%d "
+                        + "readsShed=%.0f readLimit=%.0f p99 %.2fms -> "
+                        + "%.2fms%n", imports.get(), importsRejected.get(),
+                meterRegistry.get("product.read.rejected").counter()
+                        .count(),
+                meterRegistry.get("product.read.limit").gauge().value(),
+                baseline.p99Micros() / 1e3,
+                duringImport.p99Micros() / 1e3);
+        assertThat(imports.get()).isPositive();
+        assertThat(duringImport.p99Micros())
+                .isLessThanOrEqualTo((long) (baseline.p99Micros()
+                        * MAX_P99_RATIO));
+    }
+
+    private HttpRequest read() {
+        // pages outside the pre-serialized window always reach Mongo
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                + "/api/v1/products?page="
+                + ThreadLocalRandom.current().nextInt(10, 500)
+                + "&size=12")).build();
+    }
+
+    private HttpRequest importRequest(String feed) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                        + "/api/v1/admin/products/import"))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(feed))
+                .build();
+    }
+
+    /**
+     * Upserts over existing SKUs, so the collection size stays constant.
+     */
+    private static String feed() {
+        StringBuilder feed = new StringBuilder();
+        for (int i = 0; i < IMPORT_LINES; i++) {
+            feed.append("""
+                    {"sku":"%s","name":"Imported %d","price":%d}
+                    """.formatted(CatalogSeeder.sku(i), i, 1 + i % 1000));
+        }
+        return feed.toString();
+    }
+}
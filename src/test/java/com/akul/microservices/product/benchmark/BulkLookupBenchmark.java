@@ -0,0 +1,67 @@
+package com.akul.microservices.product.benchmark;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Resolves a 50-line cart either with one GET per SKU or with a single
+ * lookup call; latencies are per cart.
+ *
+ * @author Andrii Kulynych
+ * @since 2/3/2026
+ */
+@Tag("benchmark")
+class BulkLookupBenchmark extends AbstractMongoIntegrationTest {
+
+    private static final int PRODUCTS = 200_000;
+    private static final int CART_LINES = 50;
+    private static final int CONCURRENCY = 16;
+    private static final Duration DURATION = Duration.ofSeconds(20);
+
+    @Test
+    void comparePerSkuLoopWithLookup() {
+        CatalogSeeder.seed(mongoTemplate, PRODUCTS);
+        String base = "http://localhost:" + port + "/api/v1/products/";
+
+        LoadDriver.Result loop = LoadDriver.run("cart-per-sku",
+                CONCURRENCY, DURATION, () -> {
+                    for (String sku : cart()) {
+                        // disabled seeds answer 404, which is expected here
+                        LoadDriver.send(HttpRequest.newBuilder(
+                                URI.create(base + sku)).build());
+                    }
+                    return true;
+                });
+
+        LoadDriver.Result lookup = LoadDriver.run("cart-lookup",
+                CONCURRENCY, DURATION, () -> LoadDriver.send(
+                        HttpRequest.newBuilder(URI.create(base + "lookup"))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(
+                                        cart().stream().collect(
+                                                Collectors.joining("\",\"",
+                                                        "[\"", "\"]"))))
+                                .build()));
+
+        assertThat(lookup.errors()).isZero();
+        System.out.printf("cart p50 per-sku=%.2fms lookup=%.2fms (%.1fx)%n",
+                loop.p50Micros() / 1e3, lookup.p50Micros() / 1e3,
+                (double) loop.p50Micros() / lookup.p50Micros());
+    }
+
+    private static List<String> cart() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return random.ints(CART_LINES, 0, PRODUCTS)
+                .mapToObj(CatalogSeeder::sku).toList();
+    }
+}
@@ -0,0 +1,73 @@
+package com.akul.microservices.product.benchmark;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures time-to-first-byte, total time and heap growth of the catalog
+ * export for growing catalog sizes. Add larger sizes with
+ * {@code -Dexport.benchmark.sizes=10000,1000000,10000000}.
+ *
+ * @author Andrii Kulynych
+ * @since 1/16/2026
+ */
+@Tag("benchmark")
+class CatalogExportBenchmark extends AbstractMongoIntegrationTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ndjson", "csv"})
+    void exportLatencyDoesNotDependOnCatalogSize(String format)
+            throws Exception {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long seeded = 0;
+        for (String size : System.getProperty("export.benchmark.sizes",
+                "10000,100000,1000000").split(",")) {
+            long target = Long.parseLong(size.trim());
+            CatalogSeeder.seed(mongoTemplate, target - seeded);
+            seeded = target;
+
+            System.gc();
+            long heapBefore = memory.getHeapMemoryUsage().getUsed();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(
+                    "http://localhost:" + port
+                            + "/api/v1/products/export?format=" + format))
+                    .build();
+
+            long start = System.nanoTime();
+            long firstByte;
+            long bytes = 0;
+            try (HttpClient client = HttpClient.newHttpClient();
+                 InputStream body = client.send(request,
+                         HttpResponse.BodyHandlers.ofInputStream()).body()) {
+                byte[] buffer = new byte[64 * 1024];
+                int read = body.read(buffer);
+                firstByte = System.nanoTime() - start;
+                while (read >= 0) {
+                    bytes += read;
+                    read = body.read(buffer);
+                }
+            }
+            long total = System.nanoTime() - start;
+            long heapAfter = memory.getHeapMemoryUsage().getUsed();
+
+            assertThat(bytes).isPositive();
+            System.out.printf("catalog-export format=%s products=%d "
+                            + "ttfb=%.1fms total=%dms bytes=%d "
+                            + "heapDelta=%dMB%n", format, target,
+                    firstByte / 1e6, total / 1_000_000, bytes,
+                    (heapAfter - heapBefore) >> 20);
+        }
+    }
+}
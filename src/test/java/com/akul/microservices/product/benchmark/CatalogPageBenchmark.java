@@ -0,0 +1,66 @@
+package com.akul.microservices.product.benchmark;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import com.akul.microservices.product.config.ProductProperties;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput of the first public listing page: regular query path,
+ * pre-serialized bytes, and conditional requests answered with 304.
+ *
+ * @author Andrii Kulynych
+ * @since 1/26/2026
+ */
+@Tag("benchmark")
+class CatalogPageBenchmark extends AbstractMongoIntegrationTest {
+
+    private static final int CONCURRENCY = 32;
+    private static final Duration DURATION = Duration.ofSeconds(15);
+
+    @Autowired
+    private ProductProperties properties;
+
+    @AfterEach
+    void restoreMode() {
+        properties.getCatalogPages().setEnabled(true);
+    }
+
+    @Test
+    void compareQueryPathWithPrecomputedPages() {
+        CatalogSeeder.seed(mongoTemplate, 50_000);
+        URI uri = URI.create("http://localhost:" + port
+                + "/api/v1/products?page=0&size=12");
+        HttpRequest plain = HttpRequest.newBuilder(uri).build();
+
+        properties.getCatalogPages().setEnabled(false);
+        LoadDriver.Result query = LoadDriver.run("catalog-page-query",
+                CONCURRENCY, DURATION, () -> plain);
+
+        properties.getCatalogPages().setEnabled(true);
+        String etag = RestAssured.get(uri).then().extract().header("ETag");
+        LoadDriver.Result precomputed = LoadDriver.run(
+                "catalog-page-precomputed", CONCURRENCY, DURATION,
+                () -> plain);
+
+        HttpRequest conditional = HttpRequest.newBuilder(uri)
+                .header("If-None-Match", etag).build();
+        LoadDriver.Result notModified = LoadDriver.run(
+                "catalog-page-304", CONCURRENCY, DURATION,
+                () -> conditional);
+
+        assertThat(precomputed.errors()).isZero();
+        System.out.printf("catalog-page gain precomputed=%.1fx 304=%.1fx%n",
+                precomputed.throughput() / query.throughput(),
+                notModified.throughput() / query.throughput());
+    }
+}
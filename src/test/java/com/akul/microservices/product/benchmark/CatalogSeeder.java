@@ -0,0 +1,59 @@
+package com.akul.microservices.product.benchmark;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Seeds the product collection with synthetic documents using raw driver
+ * bulk inserts, so large catalogs are created in seconds.
+ *
+ * @author Andrii Kulynych
+ * @since 1/16/2026
+ */
+public final class CatalogSeeder {
+
+    private static final int BATCH = 10_000;
+
+    private CatalogSeeder() {
+    }
+
+    public static void seed(MongoTemplate mongoTemplate, long products) {
+        MongoCollection<Document> collection =
+                mongoTemplate.getCollection("product");
+        InsertManyOptions options = new InsertManyOptions().ordered(false);
+        List<Document> batch = new ArrayList<>(BATCH);
+        Date now = new Date();
+        for (long i = 0; i < products; i++) {
+            batch.add(product(i, now));
+            if (batch.size() == BATCH) {
+                collection.insertMany(batch, options);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            collection.insertMany(batch, options);
+        }
+    }
+
+    public static String sku(long i) {
+        return "SEED-%09d".formatted(i);
+    }
+
+    private static Document product(long i, Date now) {
+        return new Document("_id", new ObjectId())
+                .append("sku", sku(i))
+                .append("name", "Product " + i)
+                .append("description", "Seeded product number " + i)
+                .append("price", String.valueOf(1 + i % 1000))
+                .append("createdAt", now)
+                .append("updatedAt", now)
+                .append("enabled", i % 10 != 0);
+    }
+}
@@ -0,0 +1,15 @@
+package com.akul.microservices.product.benchmark;
+
+/**
+ * Default settings: all Mongo metrics and slow-query capture on.
+ *
+ * @author Andrii Kulynych
+ * @since 4/2/2026
+ */
+class InstrumentedMongoBenchmark extends MongoInstrumentationBenchmark {
+
+    @Override
+    protected String mode() {
+        return "on";
+    }
+}
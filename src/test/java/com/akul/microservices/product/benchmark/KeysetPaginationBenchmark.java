@@ -0,0 +1,69 @@
+package com.akul.microservices.product.benchmark;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import com.akul.microservices.product.model.Product;
+import com.akul.microservices.product.service.ScrollCursor;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares offset paging with keyset scrolling on page 1 and page 10,000
+ * of the public listing.
+ *
+ * @author Andrii Kulynych
+ * @since 1/19/2026
+ */
+@Tag("benchmark")
+class KeysetPaginationBenchmark extends AbstractMongoIntegrationTest {
+
+    private static final int PAGE_SIZE = 12;
+    private static final int DEEP_PAGE = 10_000;
+    private static final int ITERATIONS = 50;
+
+    @Test
+    void deepKeysetPageCostsTheSameAsFirstPage() {
+        CatalogSeeder.seed(mongoTemplate, 150_000);
+
+        Query deep = Query.query(Criteria.where("enabled").is(true))
+                .with(Sort.by("sku"))
+                .skip((long) DEEP_PAGE * PAGE_SIZE - 1).limit(1);
+        Product lastBeforeDeepPage =
+                mongoTemplate.findOne(deep, Product.class);
+        assertThat(lastBeforeDeepPage).isNotNull();
+        String deepCursor = ScrollCursor.after(lastBeforeDeepPage,
+                ScrollCursor.SKU, Sort.Direction.ASC).encode();
+
+        double offsetFirst = averageMs(() -> "/api/v1/products?page=0&size="
+                + PAGE_SIZE);
+        double offsetDeep = averageMs(() -> "/api/v1/products?page="
+                + DEEP_PAGE + "&size=" + PAGE_SIZE);
+        double keysetFirst = averageMs(() -> "/api/v1/products/scroll?size="
+                + PAGE_SIZE);
+        double keysetDeep = averageMs(() -> "/api/v1/products/scroll?size="
+                + PAGE_SIZE + "&cursor=" + deepCursor);
+
+        System.out.printf("pagination offset page1=%.2fms page%d=%.2fms | "
+                        + "keyset page1=%.2fms page%d=%.2fms%n",
+                offsetFirst, DEEP_PAGE, offsetDeep,
+                keysetFirst, DEEP_PAGE, keysetDeep);
+    }
+
+    private static double averageMs(Supplier<String> path) {
+        for (int i = 0; i < 10; i++) {
+            RestAssured.get(path.get()).then().statusCode(200);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            RestAssured.get(path.get()).then().statusCode(200);
+        }
+        return (System.nanoTime() - start) / 1e6 / ITERATIONS;
+    }
+}
@@ -0,0 +1,152 @@
+package com.akul.microservices.product.benchmark;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop HTTP load generator: a fixed number of virtual-thread
+ * clients send requests back to back and latencies are recorded in an
+ * HdrHistogram.
+ *
+ * @author Andrii Kulynych
+ * @since 1/26/2026
+ */
+public final class LoadDriver {
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private LoadDriver() {
+    }
+
+    public static Result run(String name, int concurrency, Duration duration,
+                             Supplier<HttpRequest> requests) {
+        return run(name, concurrency, duration,
+                (Operation) () -> send(requests.get()));
+    }
+
+    /**
+     * Runs an arbitrary client operation, e.g. several dependent calls
+     * measured as one unit.
+     */
+    public static Result run(String name, int concurrency, Duration duration,
+                             Operation operation) {
+        Histogram latencies = new ConcurrentHistogram(
+                TimeUnit.SECONDS.toMicros(60), 3);
+        AtomicLong errors = new AtomicLong();
+        AtomicLong shed = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        long start = System.nanoTime();
+        try (ExecutorService clients =
+                     Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        record(operation, latencies, errors, shed);
+                    }
+                });
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Result result = Result.of(name, latencies, errors.get(), shed.get(),
+                seconds);
+        System.out.println(result);
+        return result;
+    }
+
+    /**
+     * Sends one request; returns {@code false} for 4xx/5xx answers. A 503
+     * with {@code Retry-After} is load shedding by the service and throws
+     * {@link RequestShedException} instead.
+     */
+    public static boolean send(HttpRequest request) throws Exception {
+        HttpResponse<Void> response = CLIENT.send(request,
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 503
+                && response.headers().firstValue("Retry-After").isPresent()) {
+            throw new RequestShedException();
+        }
+        return response.statusCode() < 400;
+    }
+
+    /**
+     * Shed requests are counted apart from errors and left out of the
+     * latencies and throughput, since the service did not serve them.
+     */
+    static void record(Operation operation, Histogram latencies,
+                       AtomicLong errors, AtomicLong shed) {
+        long sent = System.nanoTime();
+        try {
+            if (!operation.execute()) {
+                errors.incrementAndGet();
+            }
+        } catch (RequestShedException ex) {
+            shed.incrementAndGet();
+            return;
+        } catch (Exception ex) {
+            errors.incrementAndGet();
+        }
+        latencies.recordValue(Math.min(
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sent),
+                latencies.getHighestTrackableValue()));
+    }
+
+    /**
+     * One measured client operation; {@code false} counts as an error.
+     */
+    @FunctionalInterface
+    public interface Operation {
+
+        boolean execute() throws Exception;
+    }
+
+    /**
+     * A request rejected by the service's bulkheads or concurrency limit.
+     */
+    public static final class RequestShedException extends RuntimeException {
+
+        public RequestShedException() {
+            super("Request shed", null, false, false);
+        }
+    }
+
+    /**
+     * Throughput in requests per second, latencies in microseconds.
+     * Requests the service shed are only counted in {@code shed}.
+     */
+    public record Result(String name, long requests, long errors, long shed,
+                         double throughput, long p50Micros, long p99Micros,
+                         long p999Micros) {
+
+        static Result of(String name, Histogram latencies, long errors,
+                         long shed, double seconds) {
+            return new Result(name, latencies.getTotalCount(), errors, shed,
+                    latencies.getTotalCount() / seconds,
+                    latencies.getValueAtPercentile(50),
+                    latencies.getValueAtPercentile(99),
+                    latencies.getValueAtPercentile(99.9));
+        }
+
+        @Override
+        public String toString() {
+            return ("load %s requests=%d errors=%d shed=%d "
+                    + "throughput=%.0f/s p50=%.2fms p99=%.2fms "
+                    + "p999=%.2fms").formatted(name, requests, errors,
+                    shed, throughput, p50Micros / 1e3,
+                    p99Micros / 1e3, p999Micros / 1e3);
+        }
+    }
+}
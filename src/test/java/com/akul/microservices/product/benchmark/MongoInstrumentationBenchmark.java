@@ -0,0 +1,51 @@
+package com.akul.microservices.product.benchmark;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Overhead of the Mongo command, pool wait, repository and service
+ * timers plus the slow-query capture on listing requests that each run
+ * a find and a count. Subclasses switch the instrumentation on or off;
+ * compare the two {@code load monitoring-*} lines.
+ *
+ * @author Andrii Kulynych
+ * @since 4/2/2026
+ */
+@Tag("benchmark")
+abstract class MongoInstrumentationBenchmark
+        extends AbstractMongoIntegrationTest {
+
+    private static final int CLIENTS = 64;
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+    private static final Duration DURATION = Duration.ofSeconds(30);
+
+    protected abstract String mode();
+
+    @Test
+    void listingReads() {
+        CatalogSeeder.seed(mongoTemplate, 50_000);
+
+        LoadDriver.run("monitoring-warmup", CLIENTS, WARMUP, this::request);
+        LoadDriver.Result result = LoadDriver.run("monitoring-" + mode(),
+                CLIENTS, DURATION, this::request);
+
+        assertThat(result.errors()).isZero();
+    }
+
+    private HttpRequest request() {
+        // pages outside the pre-serialized window always reach Mongo
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                + "/api/v1/products?page="
+                + ThreadLocalRandom.current().nextInt(10, 500)
+                + "&size=12")).build();
+    }
+}
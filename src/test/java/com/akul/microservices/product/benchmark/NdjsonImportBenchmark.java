@@ -0,0 +1,104 @@
+package com.akul.microservices.product.benchmark;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import com.akul.microservices.product.model.Product;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Streams a generated NDJSON feed into the import endpoint and samples
+ * heap usage while it runs. The benchmarks profile limits the heap
+ * ({@code -Dbenchmark.heap}), so buffering the feed would fail with
+ * {@link OutOfMemoryError} long before the last line.
+ *
+ * @author Andrii Kulynych
+ * @since 1/14/2026
+ */
+@Tag("benchmark")
+class NdjsonImportBenchmark extends AbstractMongoIntegrationTest {
+
+    private static final int LINES =
+            Integer.getInteger("import.benchmark.lines", 1_000_000);
+
+    @Test
+    void importsGeneratedFeedWithFlatHeap() throws Exception {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        AtomicLong peakHeap = new AtomicLong();
+        ScheduledExecutorService sampler =
+                Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> peakHeap.accumulateAndGet(
+                        memory.getHeapMemoryUsage().getUsed(), Math::max),
+                0, 50, TimeUnit.MILLISECONDS);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(
+                        "http://localhost:" + port
+                                + "/api/v1/admin/products/import"))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofInputStream(
+                        () -> new GeneratedFeed(LINES)))
+                .build();
+
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            response = client.send(request,
+                    HttpResponse.BodyHandlers.ofString());
+        } finally {
+            sampler.shutdownNow();
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(mongoTemplate.count(new Query(), Product.class))
+                .isEqualTo(LINES);
+        System.out.printf("ndjson-import lines=%d time=%dms "
+                        + "peakHeap=%dMB maxHeap=%dMB%n", LINES, elapsedMs,
+                peakHeap.get() >> 20, Runtime.getRuntime().maxMemory() >> 20);
+    }
+
+    /**
+     * Produces NDJSON lines on demand, the feed never exists in memory.
+     */
+    private static final class GeneratedFeed extends InputStream {
+        private final int lines;
+        private int next;
+        private byte[] current = new byte[0];
+        private int position;
+
+        private GeneratedFeed(int lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public int read() {
+            if (position == current.length) {
+                if (next == lines) {
+                    return -1;
+                }
+                current = ("{\"sku\":\"FEED-%d\",\"name\":\"Product %d\","
+                        + "\"description\":\"Generated\",\"price\":%d}\n")
+                        .formatted(next, next, 1 + next % 1000)
+                        .getBytes(StandardCharsets.UTF_8);
+                position = 0;
+                next++;
+            }
+            return current[position++] & 0xFF;
+        }
+    }
+}
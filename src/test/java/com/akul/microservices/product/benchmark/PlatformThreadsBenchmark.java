@@ -0,0 +1,18 @@
+package com.akul.microservices.product.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Default Tomcat platform thread pool.
+ *
+ * @author Andrii Kulynych
+ * @since 1/28/2026
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadsBenchmark extends ThreadModelBenchmark {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
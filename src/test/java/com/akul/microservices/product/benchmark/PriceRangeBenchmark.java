@@ -0,0 +1,114 @@
+package com.akul.microservices.product.benchmark;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import com.akul.microservices.product.migration.PriceStorageMigration;
+import com.akul.microservices.product.service.ProductService;
+import org.bson.Document;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Price range listing at one million products: string prices filtered
+ * with {@code $convert} (the only correct range over the legacy storage)
+ * versus Decimal128 prices served from the public price index, with the
+ * online migration in between.
+ *
+ * @author Andrii Kulynych
+ * @since 3/30/2026
+ */
+@Tag("benchmark")
+class PriceRangeBenchmark extends AbstractMongoIntegrationTest {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int ITERATIONS = 50;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private PriceStorageMigration migration;
+
+    @Test
+    void indexedRangeBeatsConvertedScan() {
+        CatalogSeeder.seed(mongoTemplate, PRODUCTS);
+
+        long[] before = measure(() -> {
+            BigDecimal min = randomMin();
+            return mongoTemplate.getCollection("product")
+                    .aggregate(stringRange(min, min.add(BigDecimal.TEN)))
+                    .into(new ArrayList<>());
+        });
+
+        long started = System.nanoTime();
+        long migrated = migration.migrate();
+        long migrationMillis = (System.nanoTime() - started) / 1_000_000;
+
+        long[] after = measure(() -> {
+            BigDecimal min = randomMin();
+            Pageable page = PageRequest.of(0, PAGE_SIZE,
+                    Sort.by("price", "sku"));
+            return productService.getPublicProducts(page, min,
+                    min.add(BigDecimal.TEN));
+        });
+
+        System.out.printf("price range string+$convert: p50 %d ms, "
+                        + "p99 %d ms | decimal128+index: p50 %d ms, "
+                        + "p99 %d ms | migrated %d docs in %d ms%n",
+                before[0], before[1], after[0], after[1], migrated,
+                migrationMillis);
+    }
+
+    /**
+     * Mirrors the service query over string prices: converted bounds,
+     * page sorted by price and SKU, plus the total count.
+     */
+    private static List<Document> stringRange(BigDecimal min,
+                                              BigDecimal max) {
+        Document price = new Document("$convert", new Document(
+                "input", "$price").append("to", "decimal")
+                .append("onError", null));
+        return List.of(
+                new Document("$match", new Document("enabled", true)),
+                new Document("$addFields", new Document("_price", price)),
+                new Document("$match", new Document("_price",
+                        new Document("$gte", min).append("$lte", max))),
+                new Document("$facet", new Document("content", List.of(
+                        new Document("$sort", new Document("_price", 1)
+                                .append("sku", 1)),
+                        new Document("$limit", PAGE_SIZE)))
+                        .append("total", List.of(
+                                new Document("$count", "count")))));
+    }
+
+    private static long[] measure(Supplier<?> query) {
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            query.get();
+        }
+        long[] millis = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            query.get();
+            millis[i] = (System.nanoTime() - started) / 1_000_000;
+        }
+        Arrays.sort(millis);
+        return new long[] {millis[ITERATIONS / 2],
+                millis[ITERATIONS * 99 / 100]};
+    }
+
+    private static BigDecimal randomMin() {
+        return BigDecimal.valueOf(
+                ThreadLocalRandom.current().nextInt(1, 990));
+    }
+}
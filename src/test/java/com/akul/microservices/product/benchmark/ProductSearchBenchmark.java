@@ -0,0 +1,65 @@
+package com.akul.microservices.product.benchmark;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Search latency on a 1M product catalog: selective terms ranked by
+ * relevance and by price, a deep keyset continuation, and a term that
+ * matches every product (expected to be rejected by the time limit).
+ *
+ * @author Andrii Kulynych
+ * @since 2/10/2026
+ */
+@Tag("benchmark")
+class ProductSearchBenchmark extends AbstractMongoIntegrationTest {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int CONCURRENCY = 16;
+    private static final Duration DURATION = Duration.ofSeconds(20);
+
+    @Test
+    void searchOnMillionProducts() {
+        CatalogSeeder.seed(mongoTemplate, PRODUCTS);
+        String base = "http://localhost:" + port + "/api/v1/products/search";
+
+        // seeded names are "Product <n>": a number matches a handful
+        LoadDriver.Result relevance = LoadDriver.run("search-relevance",
+                CONCURRENCY, DURATION, () -> HttpRequest.newBuilder(
+                        URI.create(base + "?q=" + randomTerm())).build());
+        LoadDriver.Result byPrice = LoadDriver.run("search-price",
+                CONCURRENCY, DURATION, () -> HttpRequest.newBuilder(
+                        URI.create(base + "?sortBy=price&minPrice=10&q="
+                                + randomTerm())).build());
+
+        Response first = RestAssured.get(base + "?q=12+13+14+15&size=1");
+        String cursor = first.jsonPath().getString("nextCursor");
+        LoadDriver.Result continuation = LoadDriver.run(
+                "search-continuation", CONCURRENCY, DURATION,
+                () -> HttpRequest.newBuilder(URI.create(base
+                        + "?q=12+13+14+15&size=1&cursor=" + cursor)).build());
+
+        long start = System.nanoTime();
+        int broad = RestAssured.get(base + "?q=product").statusCode();
+        System.out.printf("search broad query status=%d after %.0fms%n",
+                broad, (System.nanoTime() - start) / 1e6);
+
+        assertThat(relevance.errors()).isZero();
+        assertThat(byPrice.errors()).isZero();
+        assertThat(continuation.errors()).isZero();
+    }
+
+    private static String randomTerm() {
+        return String.valueOf(ThreadLocalRandom.current().nextInt(PRODUCTS));
+    }
+}
@@ -0,0 +1,18 @@
+package com.akul.microservices.product.benchmark;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * WebFlux and reactive Mongo ({@code reactive} profile).
+ *
+ * @author Andrii Kulynych
+ * @since 1/30/2026
+ */
+@ActiveProfiles("reactive")
+class ReactiveStackBenchmark extends WebStackBenchmark {
+
+    @Override
+    protected String stack() {
+        return "reactive";
+    }
+}
@@ -0,0 +1,123 @@
+package com.akul.microservices.product.benchmark;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import com.akul.microservices.product.dto.ProductResponse;
+import com.akul.microservices.product.model.Product;
+import com.akul.microservices.product.repository.PublicProductQueries;
+import com.akul.microservices.product.support.MongoCommandCounter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Wire bytes and heap allocation per public read: full {@link Product}
+ * entity mapped to {@link ProductResponse} (previous implementation)
+ * versus the projected {@link PublicProductQueries} that production
+ * runs.
+ *
+ * @author Andrii Kulynych
+ * @since 2/9/2026
+ */
+@Tag("benchmark")
+@Import(MongoCommandCounter.Config.class)
+class ReadProjectionBenchmark extends AbstractMongoIntegrationTest {
+
+    private static final int PRODUCTS = 100_000;
+    private static final int ITERATIONS = 5_000;
+    private static final Sort LISTING = Sort.by("sku", "name", "price",
+            "createdAt");
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean)
+                    ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private MongoCommandCounter counter;
+
+    @Test
+    void projectedReadsTransferAndAllocateLess() {
+        CatalogSeeder.seed(mongoTemplate, PRODUCTS);
+
+        compare("by-sku",
+                () -> mongoTemplate.findOne(Query.query(Criteria
+                                .where("sku").is(randomEnabledSku())),
+                        Product.class),
+                () -> PublicProductQueries.findPublicProductBySku(
+                        mongoTemplate, randomEnabledSku()).orElseThrow());
+
+        Query enabled = Query.query(Criteria.where("enabled").is(true));
+        compare("page-of-12",
+                () -> {
+                    // the projected page also runs its count query
+                    mongoTemplate.count(enabled, Product.class);
+                    return mongoTemplate.find(Query.of(enabled)
+                                    .with(PageRequest.of(randomPage(), 12,
+                                            LISTING)), Product.class)
+                            .stream().map(ProductResponse::from).toList();
+                },
+                () -> PublicProductQueries.findPublicProducts(
+                        mongoTemplate,
+                        PageRequest.of(randomPage(), 12, LISTING))
+                        .getContent());
+    }
+
+    private void compare(String name, Supplier<?> entity,
+                         Supplier<?> projected) {
+        Measurement before = measure(entity);
+        Measurement after = measure(projected);
+        System.out.printf("projection %s entity: %d B wire, %d B alloc | "
+                        + "projected: %d B wire, %d B alloc "
+                        + "(saved %d B wire, %d B alloc per request)%n",
+                name, before.wireBytes(), before.allocatedBytes(),
+                after.wireBytes(), after.allocatedBytes(),
+                before.wireBytes() - after.wireBytes(),
+                before.allocatedBytes() - after.allocatedBytes());
+    }
+
+    /**
+     * Runs on the test thread only, so thread-allocated bytes cover the
+     * driver decoding and mapping but not the HTTP layer. Reply sizes
+     * are taken in a separate pass to keep their encoding out of the
+     * allocation figure.
+     */
+    private Measurement measure(Supplier<?> read) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            read.get();
+        }
+        long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            read.get();
+        }
+        allocated = THREADS.getCurrentThreadAllocatedBytes() - allocated;
+
+        counter.reset();
+        counter.measureReplies(true);
+        for (int i = 0; i < ITERATIONS; i++) {
+            read.get();
+        }
+        counter.measureReplies(false);
+        return new Measurement(counter.replyBytes() / ITERATIONS,
+                allocated / ITERATIONS);
+    }
+
+    private static String randomEnabledSku() {
+        int i = ThreadLocalRandom.current().nextInt(PRODUCTS);
+        return CatalogSeeder.sku(i % 10 == 0 ? i + 1 : i);
+    }
+
+    private static int randomPage() {
+        return ThreadLocalRandom.current().nextInt(100);
+    }
+
+    private record Measurement(long wireBytes, long allocatedBytes) {
+    }
+}
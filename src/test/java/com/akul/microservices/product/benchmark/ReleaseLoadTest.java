@@ -0,0 +1,209 @@
+package com.akul.microservices.product.benchmark;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pre-release load test: seeds a catalog of {@code load.catalog-size}
+ * products and drives a mix of public and admin traffic against it.
+ * Results are compared with a recorded baseline and the test fails when
+ * throughput or p99 regress by more than {@code load.threshold}.
+ *
+ * <pre>
+ * ./mvnw test -Pbenchmarks -Dtest=ReleaseLoadTest -Dload.catalog-size=1000000
+ * ./mvnw test -Pbenchmarks -Dtest=ReleaseLoadTest -Dload.record=true
+ * </pre>
+ *
+ * <p>A baseline is machine specific; when the file does not exist the
+ * run records one instead of comparing.
+ *
+ * <p>The service runs with its production limits. Requests it sheds
+ * (503 with {@code Retry-After} from the read limiter or a bulkhead) are
+ * reported per operation as {@code shed}; they are not errors and are
+ * left out of throughput and latency.
+ *
+ * @author Andrii Kulynych
+ * @since 2/6/2026
+ */
+@Tag("benchmark")
+class ReleaseLoadTest extends AbstractMongoIntegrationTest {
+
+    private static final long CATALOG_SIZE =
+            Long.getLong("load.catalog-size", 100_000);
+    private static final int CONCURRENCY =
+            Integer.getInteger("load.concurrency", 64);
+    private static final Duration WARMUP = Duration.ofSeconds(
+            Long.getLong("load.warmup-seconds", 15));
+    private static final Duration DURATION = Duration.ofSeconds(
+            Long.getLong("load.duration-seconds", 60));
+    private static final double THRESHOLD = Double.parseDouble(
+            System.getProperty("load.threshold", "0.2"));
+    private static final boolean RECORD =
+            Boolean.getBoolean("load.record");
+    private static final Path BASELINE = Path.of(System.getProperty(
+            "load.baseline", "load-baseline.properties"));
+    private static final Path REPORT_DIR = Path.of("target", "load-test");
+
+    private static final int PAGE_SIZE = 12;
+    private static final int BATCH_SIZE = 50;
+
+    private final AtomicLong batchSequence = new AtomicLong();
+    private final Queue<List<String>> createdBatches =
+            new ConcurrentLinkedQueue<>();
+
+    @Test
+    void mixedWorkloadStaysWithinBaseline() throws IOException {
+        CatalogSeeder.seed(mongoTemplate, CATALOG_SIZE);
+        String base = "http://localhost:" + port;
+        long deepestPage = CATALOG_SIZE * 9 / 10 / PAGE_SIZE;
+
+        WorkloadMix mix = new WorkloadMix()
+                .add("get-by-sku", 70, () -> LoadDriver.send(get(base
+                        + "/api/v1/products/" + randomEnabledSku())))
+                .add("deep-page", 15, () -> LoadDriver.send(get(base
+                        + "/api/v1/products?size=" + PAGE_SIZE + "&page="
+                        + ThreadLocalRandom.current()
+                        .nextLong(deepestPage))))
+                .add("admin-batch-create", 10, () -> createBatch(base))
+                .add("admin-batch-delete", 5, () -> deleteBatch(base));
+
+        mix.run(CONCURRENCY, WARMUP, null);
+        Map<String, LoadDriver.Result> results =
+                mix.run(CONCURRENCY, DURATION, REPORT_DIR);
+
+        results.values().forEach(result ->
+                assertThat(result.errors()).as(result.name()).isZero());
+        if (RECORD || !Files.exists(BASELINE)) {
+            record(results);
+        } else {
+            compare(results);
+        }
+    }
+
+    private boolean createBatch(String base) throws Exception {
+        long batch = batchSequence.incrementAndGet();
+        List<String> skus = IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> "LOAD-%d-%d".formatted(batch, i)).toList();
+        String body = skus.stream()
+                .map(sku -> ("{\"sku\":\"%s\",\"name\":\"Load %s\","
+                        + "\"price\":9.99}").formatted(sku, sku))
+                .collect(Collectors.joining(",", "[", "]"));
+        boolean ok = LoadDriver.send(HttpRequest.newBuilder(
+                        URI.create(base + "/api/v1/admin/products/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build());
+        if (ok) {
+            createdBatches.add(skus);
+        }
+        return ok;
+    }
+
+    private boolean deleteBatch(String base) throws Exception {
+        List<String> skus = createdBatches.poll();
+        if (skus == null) {
+            // nothing created yet: still exercise the endpoint
+            skus = List.of("LOAD-MISSING");
+        }
+        String body = skus.stream()
+                .collect(Collectors.joining("\",\"", "[\"", "\"]"));
+        return LoadDriver.send(HttpRequest.newBuilder(
+                        URI.create(base + "/api/v1/admin/products/batch"))
+                .header("Content-Type", "application/json")
+                .method("DELETE", HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    /**
+     * Every tenth seeded product is disabled; skip those so GETs hit.
+     */
+    private static String randomEnabledSku() {
+        long i = ThreadLocalRandom.current().nextLong(CATALOG_SIZE);
+        return CatalogSeeder.sku(i % 10 == 0 ? (i + 1) % CATALOG_SIZE : i);
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).build();
+    }
+
+    private static void record(Map<String, LoadDriver.Result> results)
+            throws IOException {
+        Properties baseline = load();
+        for (LoadDriver.Result result : results.values()) {
+            baseline.setProperty(key(result.name(), "throughput"),
+                    String.valueOf(result.throughput()));
+            baseline.setProperty(key(result.name(), "p99"),
+                    String.valueOf(result.p99Micros()));
+        }
+        try (OutputStream out = Files.newOutputStream(BASELINE)) {
+            baseline.store(out, "Load test baseline (throughput in req/s, "
+                    + "p99 in microseconds)");
+        }
+        System.out.println("load baseline recorded to "
+                + BASELINE.toAbsolutePath());
+    }
+
+    private static void compare(Map<String, LoadDriver.Result> results)
+            throws IOException {
+        Properties baseline = load();
+        List<String> regressions = new ArrayList<>();
+        for (LoadDriver.Result result : results.values()) {
+            String throughput = baseline.getProperty(
+                    key(result.name(), "throughput"));
+            String p99 = baseline.getProperty(key(result.name(), "p99"));
+            if (throughput != null && result.throughput()
+                    < Double.parseDouble(throughput) * (1 - THRESHOLD)) {
+                regressions.add("%s throughput %.0f/s < baseline %s/s"
+                        .formatted(result.name(), result.throughput(),
+                                throughput));
+            }
+            if (p99 != null && result.p99Micros()
+                    > Long.parseLong(p99) * (1 + THRESHOLD)) {
+                regressions.add("%s p99 %dus > baseline %sus".formatted(
+                        result.name(), result.p99Micros(), p99));
+            }
+        }
+        assertThat(regressions)
+                .as("regressions beyond %.0f%% of %s", THRESHOLD * 100,
+                        BASELINE)
+                .isEmpty();
+    }
+
+    private static Properties load() throws IOException {
+        Properties baseline = new Properties();
+        if (Files.exists(BASELINE)) {
+            try (InputStream in = Files.newInputStream(BASELINE)) {
+                baseline.load(in);
+            }
+        }
+        return baseline;
+    }
+
+    /**
+     * Baselines are kept per catalog size, since latency depends on it.
+     */
+    private static String key(String operation, String metric) {
+        return "catalog-%d.%s.%s".formatted(CATALOG_SIZE, operation, metric);
+    }
+}
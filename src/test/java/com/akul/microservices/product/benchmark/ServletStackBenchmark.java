@@ -0,0 +1,15 @@
+package com.akul.microservices.product.benchmark;
+
+/**
+ * Blocking servlet stack (default).
+ *
+ * @author Andrii Kulynych
+ * @since 1/30/2026
+ */
+class ServletStackBenchmark extends WebStackBenchmark {
+
+    @Override
+    protected String stack() {
+        return "servlet";
+    }
+}
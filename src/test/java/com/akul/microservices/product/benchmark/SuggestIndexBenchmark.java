@@ -0,0 +1,106 @@
+package com.akul.microservices.product.benchmark;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import com.akul.microservices.product.cache.ProductSuggestIndex;
+import com.akul.microservices.product.event.ProductChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.HdrHistogram.Histogram;
+import org.bson.Document;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Typeahead footprint and cost at one million products: heap retained by
+ * the snapshot, time to rebuild it from Mongo, and in-process lookup
+ * latency per keystroke.
+ *
+ * @author Andrii Kulynych
+ * @since 2/11/2026
+ */
+@Tag("benchmark")
+class SuggestIndexBenchmark extends AbstractMongoIntegrationTest {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int LOOKUPS = 200_000;
+
+    @Autowired
+    private ProductSuggestIndex index;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void millionProductSnapshot() throws Exception {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        CatalogSeeder.seed(mongoTemplate, PRODUCTS);
+        index.onProductChanged(ProductChangedEvent.allProducts());
+        waitForSnapshot();
+        System.gc();
+        long withSnapshot = memory.getHeapMemoryUsage().getUsed();
+
+        // an empty catalog swaps in an empty snapshot
+        mongoTemplate.getCollection("product").deleteMany(new Document());
+        index.onProductChanged(ProductChangedEvent.allProducts());
+        waitForEntries(0);
+        System.gc();
+        long withoutSnapshot = memory.getHeapMemoryUsage().getUsed();
+
+        CatalogSeeder.seed(mongoTemplate, PRODUCTS);
+        index.onProductChanged(ProductChangedEvent.allProducts());
+        waitForSnapshot();
+
+        Histogram latencies = new Histogram(
+                TimeUnit.MILLISECONDS.toNanos(100), 3);
+        for (int i = 0; i < LOOKUPS; i++) {
+            String prefix = randomPrefix();
+            long start = System.nanoTime();
+            index.suggest(prefix, 10);
+            latencies.recordValue(Math.min(System.nanoTime() - start,
+                    latencies.getHighestTrackableValue()));
+        }
+
+        Timer rebuild = meterRegistry.get("product.suggest.rebuild").timer();
+        System.out.printf("suggest %d products: heap=%.1fMB "
+                        + "rebuild=%.0fms lookup p50=%.1fus p99=%.1fus%n",
+                PRODUCTS, (withSnapshot - withoutSnapshot) / 1e6,
+                rebuild.max(TimeUnit.MILLISECONDS),
+                latencies.getValueAtPercentile(50) / 1e3,
+                latencies.getValueAtPercentile(99) / 1e3);
+        assertThat(latencies.getValueAtPercentile(99))
+                .isLessThan(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private void waitForSnapshot() throws InterruptedException {
+        // every tenth seeded product is disabled
+        waitForEntries(PRODUCTS - PRODUCTS / 10);
+    }
+
+    private void waitForEntries(double expected) throws InterruptedException {
+        while (meterRegistry.get("product.suggest.entries").gauge().value()
+                != expected) {
+            Thread.sleep(100);
+        }
+    }
+
+    /**
+     * Mixes SKU prefixes ("seed-0001") and name prefixes ("product 12").
+     */
+    private static String randomPrefix() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String sku = CatalogSeeder.sku(random.nextInt(PRODUCTS));
+        return random.nextBoolean()
+                ? sku.substring(0, 5 + random.nextInt(6))
+                        .toLowerCase(Locale.ROOT)
+                : "product " + random.nextInt(1, 1000);
+    }
+}
@@ -0,0 +1,49 @@
+package com.akul.microservices.product.benchmark;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives concurrent listing requests that each need a Mongo round trip
+ * (pages outside the pre-serialized window) with more clients than the
+ * default Tomcat pool has threads. Subclasses choose the thread model.
+ *
+ * @author Andrii Kulynych
+ * @since 1/28/2026
+ */
+@Tag("benchmark")
+// measures the raw stack, so load shedding is switched off
+@TestPropertySource(properties = {
+        "product.read-limit.enabled=false",
+        "resilience4j.bulkhead.instances.public.max-concurrent-calls="
+                + Integer.MAX_VALUE})
+abstract class ThreadModelBenchmark extends AbstractMongoIntegrationTest {
+
+    private static final int CLIENTS =
+            Integer.getInteger("threads.benchmark.clients", 1_000);
+    private static final Duration DURATION = Duration.ofSeconds(20);
+
+    protected abstract String mode();
+
+    @Test
+    void concurrentReads() {
+        CatalogSeeder.seed(mongoTemplate, 50_000);
+
+        LoadDriver.Result result = LoadDriver.run("threads-" + mode(),
+                CLIENTS, DURATION, () -> HttpRequest.newBuilder(URI.create(
+                        "http://localhost:" + port + "/api/v1/products?page="
+                                + ThreadLocalRandom.current().nextInt(10, 500)
+                                + "&size=12")).build());
+
+        assertThat(result.requests()).isPositive();
+    }
+}
@@ -0,0 +1,24 @@
+package com.akul.microservices.product.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Command, pool, repository and service timers and slow-query capture
+ * switched off. The pool wait timer has no switch and stays on.
+ *
+ * @author Andrii Kulynych
+ * @since 4/2/2026
+ */
+@TestPropertySource(properties = {
+        "management.metrics.mongo.command.enabled=false",
+        "management.metrics.mongo.connectionpool.enabled=false",
+        "management.metrics.data.repository.autotime.enabled=false",
+        "management.observations.enable.product.service=false",
+        "product.mongo.slow-query.enabled=false"})
+class UninstrumentedMongoBenchmark extends MongoInstrumentationBenchmark {
+
+    @Override
+    protected String mode() {
+        return "off";
+    }
+}
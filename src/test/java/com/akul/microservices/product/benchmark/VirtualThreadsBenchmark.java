@@ -0,0 +1,18 @@
+package com.akul.microservices.product.benchmark;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * The {@code virtual-threads} profile, including its Mongo pool sizing.
+ *
+ * @author Andrii Kulynych
+ * @since 1/28/2026
+ */
+@ActiveProfiles("virtual-threads")
+class VirtualThreadsBenchmark extends ThreadModelBenchmark {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
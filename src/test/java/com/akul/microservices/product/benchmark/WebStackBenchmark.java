@@ -0,0 +1,61 @@
+package com.akul.microservices.product.benchmark;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Holds many concurrent keep-alive clients against the public read API
+ * and reports tail latency plus heap and thread cost per connection.
+ * Raise the OS open-file limit before running with 10k clients.
+ *
+ * @author Andrii Kulynych
+ * @since 1/30/2026
+ */
+@Tag("benchmark")
+// measures the raw stack, so load shedding is switched off
+@TestPropertySource(properties = {
+        "product.read-limit.enabled=false",
+        "resilience4j.bulkhead.instances.public.max-concurrent-calls="
+                + Integer.MAX_VALUE})
+abstract class WebStackBenchmark extends AbstractMongoIntegrationTest {
+
+    private static final int CLIENTS =
+            Integer.getInteger("web.benchmark.clients", 10_000);
+    private static final Duration DURATION = Duration.ofSeconds(30);
+    private static final int PRODUCTS = 10_000;
+
+    protected abstract String stack();
+
+    @Test
+    void manyKeepAliveClients() {
+        CatalogSeeder.seed(mongoTemplate, PRODUCTS);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        int threadsBefore = ManagementFactory.getThreadMXBean()
+                .getThreadCount();
+
+        LoadDriver.Result result = LoadDriver.run("web-" + stack(), CLIENTS,
+                DURATION, () -> HttpRequest.newBuilder(URI.create(
+                        "http://localhost:" + port + "/api/v1/products/"
+                                + CatalogSeeder.sku(ThreadLocalRandom
+                                .current().nextInt(PRODUCTS)))).build());
+
+        long heapAfter = memory.getHeapMemoryUsage().getUsed();
+        int threadsAfter = ManagementFactory.getThreadMXBean()
+                .getPeakThreadCount();
+        System.out.printf("web-%s clients=%d heapPerClient=%dKB "
+                        + "serverThreadsAdded=%d p99=%.2fms%n", stack(),
+                CLIENTS, (heapAfter - heapBefore) / CLIENTS / 1024,
+                threadsAfter - threadsBefore, result.p99Micros() / 1e3);
+    }
+}
@@ -0,0 +1,135 @@
+package com.akul.microservices.product.benchmark;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop driver for a weighted mix of operations. Every client picks
+ * the next operation at random by weight; latencies, errors and shed
+ * requests are kept per operation and for the mix as a whole.
+ *
+ * @author Andrii Kulynych
+ * @since 2/6/2026
+ */
+public final class WorkloadMix {
+
+    public static final String TOTAL = "total";
+
+    private final List<Step> steps = new ArrayList<>();
+    private int totalWeight;
+
+    public WorkloadMix add(String name, int weight,
+                           LoadDriver.Operation operation) {
+        steps.add(new Step(name, weight, operation));
+        totalWeight += weight;
+        return this;
+    }
+
+    /**
+     * Runs the mix and returns one result per operation plus
+     * {@link #TOTAL}. Histograms are written as {@code .hgrm} files to
+     * {@code reportDir} when it is not {@code null}.
+     */
+    public Map<String, LoadDriver.Result> run(int concurrency,
+                                              Duration duration,
+                                              Path reportDir) {
+        Map<String, Histogram> latencies = new LinkedHashMap<>();
+        Map<String, AtomicLong> errors = new LinkedHashMap<>();
+        Map<String, AtomicLong> shed = new LinkedHashMap<>();
+        for (Step step : steps) {
+            latencies.put(step.name(), newHistogram());
+            errors.put(step.name(), new AtomicLong());
+            shed.put(step.name(), new AtomicLong());
+        }
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        long start = System.nanoTime();
+        try (ExecutorService clients =
+                     Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        Step step = next();
+                        LoadDriver.record(step.operation(),
+                                latencies.get(step.name()),
+                                errors.get(step.name()),
+                                shed.get(step.name()));
+                    }
+                });
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Map<String, LoadDriver.Result> results = new LinkedHashMap<>();
+        Histogram total = newHistogram();
+        long totalErrors = 0;
+        long totalShed = 0;
+        for (Step step : steps) {
+            Histogram histogram = latencies.get(step.name());
+            total.add(histogram);
+            totalErrors += errors.get(step.name()).get();
+            totalShed += shed.get(step.name()).get();
+            results.put(step.name(), LoadDriver.Result.of(step.name(),
+                    histogram, errors.get(step.name()).get(),
+                    shed.get(step.name()).get(), seconds));
+            write(reportDir, step.name(), histogram);
+        }
+        results.put(TOTAL, LoadDriver.Result.of(TOTAL, total, totalErrors,
+                totalShed, seconds));
+        write(reportDir, TOTAL, total);
+        results.values().forEach(System.out::println);
+        return results;
+    }
+
+    private Step next() {
+        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Step step : steps) {
+            pick -= step.weight();
+            if (pick < 0) {
+                return step;
+            }
+        }
+        throw new IllegalStateException("Empty workload mix");
+    }
+
+    private static Histogram newHistogram() {
+        return new ConcurrentHistogram(TimeUnit.SECONDS.toMicros(60), 3);
+    }
+
+    private static void write(Path reportDir, String name,
+                              Histogram histogram) {
+        if (reportDir == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(reportDir);
+            try (PrintStream out = new PrintStream(Files.newOutputStream(
+                    reportDir.resolve(name + ".hgrm")))) {
+                // values are recorded in microseconds, reported in ms
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException(
+                    "Cannot write histogram " + name, ex);
+        }
+    }
+
+    private record Step(String name, int weight,
+                        LoadDriver.Operation operation) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.akul.microservices.product.cache;
+
+import com.akul.microservices.product.config.ProductProperties;
+import com.akul.microservices.product.dto.ProductResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Expiry of pre-rendered pages in {@link CatalogPageCache}.
+ */
+class CatalogPageCacheTests {
+
+    private static final Duration TTL = Duration.ofMillis(200);
+
+    private final AtomicInteger renders = new AtomicInteger();
+    private CatalogPageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        ProductProperties properties = new ProductProperties();
+        properties.getCache().setTtl(TTL);
+        cache = new CatalogPageCache(new ObjectMapper(), properties);
+    }
+
+    @Test
+    void servesRenderedPageWithinTtl() {
+        CatalogPageCache.RenderedPage first = cache.get(0, 12, page("One"));
+        CatalogPageCache.RenderedPage second = cache.get(0, 12, page("Two"));
+
+        assertThat(renders).hasValue(1);
+        assertThat(second.etag()).isEqualTo(first.etag());
+    }
+
+    @Test
+    void reRendersPageAfterTtlWithoutLocalWrites() throws Exception {
+        CatalogPageCache.RenderedPage stale = cache.get(0, 12, page("One"));
+
+        // another replica renamed the product; this node saw no event
+        Thread.sleep(TTL.multipliedBy(2).toMillis());
+        CatalogPageCache.RenderedPage fresh = cache.get(0, 12, page("Two"));
+
+        assertThat(renders).hasValue(2);
+        assertThat(fresh.etag()).isNotEqualTo(stale.etag());
+    }
+
+    private Supplier<Page<ProductResponse>> page(String name) {
+        return () -> {
+            renders.incrementAndGet();
+            return new PageImpl<>(
+                    List.of(new ProductResponse("P-1", name, null,
+                            BigDecimal.TEN)),
+                    PageRequest.of(0, 12), 1);
+        };
+    }
+}
@@ -0,0 +1,191 @@
+package com.akul.microservices.product.cache;
+
+import com.akul.microservices.product.config.ProductProperties;
+import com.akul.microservices.product.dto.ProductResponse;
+import com.akul.microservices.product.exception.ProductLoadTimeoutException;
+import com.akul.microservices.product.exception.ProductNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Concurrency tests for single-flight loads in {@link ProductCache}.
+ */
+class ProductCacheTests {
+
+    private static final int CALLERS = 500;
+    private static final String SKU = "HOT-1";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductProperties properties;
+    private ProductCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new ProductProperties();
+        properties.getCache().setLoadTimeout(Duration.ofSeconds(5));
+        cache = new ProductCache(properties, meterRegistry);
+    }
+
+    @RepeatedTest(10)
+    void concurrentMissesShareOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, ProductResponse> loader = sku -> {
+            loads.incrementAndGet();
+            await(release);
+            return product(sku);
+        };
+
+        List<Future<Object>> results = callConcurrently(loader, release);
+
+        for (Future<Object> result : results) {
+            assertThat(result.get()).isEqualTo(product(SKU));
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(coalesced()).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void failedLoadReachesEveryWaiterAndIsNotCached() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, ProductResponse> loader = sku -> {
+            loads.incrementAndGet();
+            await(release);
+            throw new ProductNotFoundException(sku);
+        };
+
+        for (Future<Object> result : callConcurrently(loader, release)) {
+            assertThat(result.get())
+                    .isInstanceOf(ProductNotFoundException.class);
+        }
+        assertThat(loads).hasValue(1);
+
+        assertThat(cache.get(SKU, this::product)).isEqualTo(product(SKU));
+    }
+
+    @Test
+    void timedOutLoadIsDroppedAndRetried() throws Exception {
+        properties.getCache().setLoadTimeout(Duration.ofMillis(100));
+        cache = new ProductCache(properties, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService leader = Executors.newSingleThreadExecutor()) {
+            CountDownLatch started = new CountDownLatch(1);
+            Future<ProductResponse> slow = leader.submit(() ->
+                    cache.get(SKU, sku -> {
+                        started.countDown();
+                        await(release);
+                        return product(sku);
+                    }));
+            started.await();
+
+            assertThatThrownBy(() -> cache.get(SKU, this::product))
+                    .isInstanceOf(ProductLoadTimeoutException.class);
+
+            // the timed-out entry is gone, so a new load runs right away
+            AtomicInteger loads = new AtomicInteger();
+            assertThat(cache.get(SKU, sku -> {
+                loads.incrementAndGet();
+                return product(sku);
+            })).isEqualTo(product(SKU));
+            assertThat(loads).hasValue(1);
+
+            release.countDown();
+            assertThat(slow.get()).isEqualTo(product(SKU));
+        }
+    }
+
+    @Test
+    void invalidationDropsInFlightLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService leader = Executors.newSingleThreadExecutor()) {
+            CountDownLatch started = new CountDownLatch(1);
+            leader.submit(() -> cache.get(SKU, sku -> {
+                started.countDown();
+                await(release);
+                return product("stale");
+            }));
+            started.await();
+
+            cache.invalidateAll();
+            release.countDown();
+
+            assertThat(cache.get(SKU, this::product))
+                    .isEqualTo(product(SKU));
+        }
+    }
+
+    /**
+     * Starts {@link #CALLERS} lookups that all block on the same load,
+     * then releases it. Each future yields the value or the exception.
+     */
+    private List<Future<Object>> callConcurrently(
+            Function<String, ProductResponse> loader,
+            CountDownLatch release) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> results = new ArrayList<>();
+        try (ExecutorService callers =
+                     Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(callers.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    try {
+                        return cache.get(SKU, loader);
+                    } catch (RuntimeException ex) {
+                        return ex;
+                    }
+                }));
+            }
+            ready.await();
+            start.countDown();
+            // give every caller time to join the pending load
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalesced() + 1 < CALLERS
+                    && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+        }
+        return results;
+    }
+
+    private double coalesced() {
+        return meterRegistry.get("product.cache.coalesced").counter().count();
+    }
+
+    private ProductResponse product(String sku) {
+        return new ProductResponse(sku, "Name", null, BigDecimal.ONE);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Load was never released");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.akul.microservices.product.cache;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "product.cache.change-stream.enabled=true")
+class ProductChangeStreamListenerTests extends AbstractMongoIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private ProductChangeStreamListener listener;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldEvictEntryWrittenByAnotherNode() {
+        createAndCache("CS-1");
+
+        // a write made by another replica, bypassing this node's service
+        try (MongoClient otherNode =
+                     MongoClients.create(MONGO.getReplicaSetUrl())) {
+            products(otherNode).updateOne(Filters.eq("sku", "CS-1"),
+                    Updates.set("name", "Changed elsewhere"));
+        }
+
+        assertThat(eventually("CS-1", "Changed elsewhere")).isTrue();
+    }
+
+    @Test
+    void shouldEvictOnlyTheDeletedProduct() {
+        createAndCache("CS-3");
+        double flushes = flushes();
+
+        try (MongoClient otherNode =
+                     MongoClients.create(MONGO.getReplicaSetUrl())) {
+            products(otherNode).deleteOne(Filters.eq("sku", "CS-3"));
+        }
+
+        assertThat(eventuallyNotFound("CS-3")).isTrue();
+        assertThat(flushes()).isEqualTo(flushes);
+    }
+
+    @Test
+    void shouldIgnoreRemovalOfTombstones() {
+        createAndCache("CS-4");
+        given()
+                .contentType("application/json")
+                .body("[\"CS-4\"]")
+                .delete("/api/v1/admin/products/batch")
+                .then()
+                .statusCode(204);
+        createAndCache("CS-5");
+        double flushes = flushes();
+
+        // TTL expiry of the tombstone, then a change to follow it
+        try (MongoClient otherNode =
+                     MongoClients.create(MONGO.getReplicaSetUrl())) {
+            products(otherNode).deleteOne(Filters.eq("sku", "CS-4"));
+            products(otherNode).updateOne(Filters.eq("sku", "CS-5"),
+                    Updates.set("name", "After purge"));
+        }
+
+        assertThat(eventually("CS-5", "After purge")).isTrue();
+        assertThat(flushes()).isEqualTo(flushes);
+    }
+
+    @Test
+    void shouldFlushCacheWhenResumeTokenIsLost() {
+        createAndCache("CS-2");
+        listener.stop();
+
+        try (MongoClient otherNode =
+                     MongoClients.create(MONGO.getReplicaSetUrl())) {
+            products(otherNode).updateOne(Filters.eq("sku", "CS-2"),
+                    Updates.set("name", "Missed while down"));
+        }
+
+        listener.resumeAfter(new BsonDocument("_data",
+                new BsonString("00DEADBEEF")));
+        listener.start();
+
+        assertThat(eventually("CS-2", "Missed while down")).isTrue();
+        assertThat(listener.resumeToken()).isNotNull();
+    }
+
+    private void createAndCache(String sku) {
+        given()
+                .contentType("application/json")
+                .body("""
+                        { "sku": "%s", "name": "Original", "price": 10 }
+                        """.formatted(sku))
+                .post("/api/v1/admin/products")
+                .then()
+                .statusCode(201);
+        given()
+                .get("/api/v1/products/" + sku)
+                .then()
+                .body("name", Matchers.equalTo("Original"));
+    }
+
+    private double flushes() {
+        return meterRegistry.get("product.cache.flushes").counter().count();
+    }
+
+    private static MongoCollection<Document> products(MongoClient client) {
+        return client.getDatabase("test").getCollection("product");
+    }
+
+    private static boolean eventually(String sku, String expectedName) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            String name = given().get("/api/v1/products/" + sku)
+                    .then().extract().path("name");
+            if (expectedName.equals(name)) {
+                return true;
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static boolean eventuallyNotFound(String sku) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (given().get("/api/v1/products/" + sku)
+                    .statusCode() == 404) {
+                return true;
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,112 @@
+package com.akul.microservices.product.cache;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import com.akul.microservices.product.dto.ProductSuggestion;
+import com.akul.microservices.product.support.MongoCommandCounter;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(MongoCommandCounter.Config.class)
+class ProductSuggestIndexTests extends AbstractMongoIntegrationTest {
+
+    @Autowired
+    private ProductSuggestIndex index;
+
+    @Autowired
+    private MongoCommandCounter counter;
+
+    @Test
+    void shouldFollowWritesWithoutQueryingMongoPerKeystroke()
+            throws Exception {
+        given()
+                .contentType("application/json")
+                .body("""
+                        [
+                          { "sku": "TENT-2P", "name": "Trail tent",
+                            "price": 300 },
+                          { "sku": "TRL-SHOE", "name": "Trail shoe",
+                            "price": 120 },
+                          { "sku": "SOCK-1", "name": "Merino socks",
+                            "price": 15 }
+                        ]
+                        """)
+                .post("/api/v1/admin/products/batch")
+                .then()
+                .statusCode(201);
+        index.awaitRebuilds();
+
+        counter.reset();
+        given()
+                .queryParam("q", "tr")
+                .get("/api/v1/products/suggest")
+                .then()
+                .statusCode(200)
+                .body("sku", Matchers.contains("TRL-SHOE", "TENT-2P"));
+        given()
+                .queryParam("q", "te")
+                .get("/api/v1/products/suggest")
+                .then()
+                .body("name", Matchers.contains("Trail tent"));
+        assertThat(counter.commands()).isEmpty();
+
+        given()
+                .patch("/api/v1/admin/products/TRL-SHOE/disable")
+                .then()
+                .statusCode(204);
+        given()
+                .contentType("application/json")
+                .body("""
+                        { "name": "Alpine socks", "price": 18 }
+                        """)
+                .put("/api/v1/admin/products/SOCK-1")
+                .then()
+                .statusCode(200);
+
+        assertThat(index.suggest("tr", 10))
+                .extracting(ProductSuggestion::sku)
+                .containsExactly("TENT-2P");
+        assertThat(index.suggest("alp", 10))
+                .extracting(ProductSuggestion::sku)
+                .containsExactly("SOCK-1");
+        assertThat(index.suggest("mer", 10)).isEmpty();
+
+        // the rebuilt snapshot agrees with the overlay it replaces
+        index.scheduleRebuild();
+        index.awaitRebuilds();
+        assertThat(index.suggest("tr", 10))
+                .extracting(ProductSuggestion::sku)
+                .containsExactly("TENT-2P");
+        assertThat(index.suggest("alp", 10))
+                .extracting(ProductSuggestion::sku)
+                .containsExactly("SOCK-1");
+    }
+
+    @Test
+    void shouldReturnFirstMatchesByNameWhenSkusSortEarlier()
+            throws Exception {
+        given()
+                .contentType("application/json")
+                .body("""
+                        [
+                          { "sku": "AB-1", "name": "Zip bag", "price": 5 },
+                          { "sku": "X-2", "name": "Abacus", "price": 20 },
+                          { "sku": "AB-3", "name": "Yoga band",
+                            "price": 9 }
+                        ]
+                        """)
+                .post("/api/v1/admin/products/batch")
+                .then()
+                .statusCode(201);
+        index.scheduleRebuild();
+        index.awaitRebuilds();
+
+        assertThat(index.suggest("ab", 2))
+                .extracting(ProductSuggestion::sku)
+                .containsExactly("X-2", "AB-3");
+    }
+}
@@ -0,0 +1,87 @@
+package com.akul.microservices.product.limit;
+
+import com.akul.microservices.product.config.ProductProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTests {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(20);
+
+    @Test
+    void shouldRejectCallsOverTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release(-1);
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.inFlight()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldGrowWhileLatencyStaysFlat() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+        saturate(limiter, FAST, 200);
+
+        assertThat(limiter.limit()).isGreaterThan(10);
+    }
+
+    @Test
+    void shouldShrinkWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+        saturate(limiter, FAST, 200);
+        int grown = limiter.limit();
+
+        saturate(limiter, SLOW, 50);
+
+        assertThat(limiter.limit()).isLessThan(grown / 2);
+    }
+
+    @Test
+    void shouldNotGrowWhenMostlyIdle() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+            limiter.release(FAST);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    /**
+     * Keeps every slot busy and completes one call at a time.
+     */
+    private static void saturate(AdaptiveConcurrencyLimiter limiter,
+                                 long rttNanos, int samples) {
+        while (limiter.tryAcquire()) {
+            // fill up to the current limit
+        }
+        for (int i = 0; i < samples; i++) {
+            limiter.release(rttNanos);
+            while (limiter.tryAcquire()) {
+                // the limit may have grown
+            }
+        }
+        while (limiter.inFlight() > 0) {
+            limiter.release(-1);
+        }
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        ProductProperties.ReadLimit config = new ProductProperties.ReadLimit();
+        config.setInitialLimit(initialLimit);
+        config.setMinLimit(1);
+        config.setMaxLimit(1_000);
+        return new AdaptiveConcurrencyLimiter(config);
+    }
+}
@@ -0,0 +1,145 @@
+package com.akul.microservices.product.limit;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "product.read-limit.initial-limit=1",
+        "product.read-limit.min-limit=1",
+        "product.read-limit.max-limit=1",
+        "resilience4j.bulkhead.instances.admin.max-concurrent-calls=1",
+        "resilience4j.bulkhead.instances.admin.max-wait-duration=0",
+        "resilience4j.bulkhead.instances.export.max-concurrent-calls=1"})
+class LoadSheddingTests extends AbstractMongoIntegrationTest {
+
+    private static final String BATCH = """
+            [ { "sku": "BULK-1", "name": "Bulk", "price": 1 } ]
+            """;
+
+    @Autowired
+    private PublicReadLimitFilter readLimitFilter;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldShedPublicReadsOverTheAdaptiveLimit() {
+        AdaptiveConcurrencyLimiter limiter = readLimitFilter.limiter();
+        assertThat(limiter.tryAcquire()).isTrue();
+        try {
+            given()
+                    .get("/api/v1/products/SHED-1")
+                    .then()
+                    .statusCode(503)
+                    .header("Retry-After", "1")
+                    .body("status", Matchers.equalTo(503));
+
+            // admin calls are not subject to the public limit
+            given()
+                    .get("/api/v1/admin/products/SHED-1")
+                    .then()
+                    .statusCode(404);
+        } finally {
+            limiter.release(-1);
+        }
+
+        given()
+                .get("/api/v1/products/SHED-1")
+                .then()
+                .statusCode(404);
+        assertThat(meterRegistry.get("product.read.rejected").counter()
+                .count()).isEqualTo(1);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldRejectAdminCallsWhenTheirBulkheadIsFull() {
+        Bulkhead admin = bulkheadRegistry.bulkhead("admin");
+        double rejectedBefore = rejected("admin");
+        assertThat(admin.tryAcquirePermission()).isTrue();
+        try {
+            given()
+                    .contentType("application/json")
+                    .body(BATCH)
+                    .post("/api/v1/admin/products/batch")
+                    .then()
+                    .statusCode(503)
+                    .header("Retry-After", "1");
+
+            // public reads keep their own capacity
+            given()
+                    .get("/api/v1/products")
+                    .then()
+                    .statusCode(200);
+        } finally {
+            admin.releasePermission();
+        }
+
+        assertThat(rejected("admin") - rejectedBefore).isEqualTo(1);
+        given()
+                .contentType("application/json")
+                .body(BATCH)
+                .post("/api/v1/admin/products/batch")
+                .then()
+                .statusCode(201);
+    }
+
+    @Test
+    void shouldBoundExportsByTheirOwnBulkhead() {
+        AdaptiveConcurrencyLimiter limiter = readLimitFilter.limiter();
+        assertThat(limiter.tryAcquire()).isTrue();
+        try {
+            // a long export does not need, or keep, a public read slot
+            given()
+                    .get("/api/v1/products/export")
+                    .then()
+                    .statusCode(200);
+        } finally {
+            limiter.release(-1);
+        }
+        assertThat(limiter.inFlight()).isZero();
+
+        Bulkhead export = bulkheadRegistry.bulkhead("export");
+        double rejectedBefore = rejected("export");
+        assertThat(export.tryAcquirePermission()).isTrue();
+        try {
+            given()
+                    .get("/api/v1/products/export")
+                    .then()
+                    .statusCode(503)
+                    .header("Retry-After", "1");
+
+            given()
+                    .get("/api/v1/products")
+                    .then()
+                    .statusCode(200);
+        } finally {
+            export.releasePermission();
+        }
+
+        assertThat(rejected("export") - rejectedBefore).isEqualTo(1);
+        given()
+                .get("/api/v1/products/export")
+                .then()
+                .statusCode(200);
+        assertThat(export.getMetrics().getAvailableConcurrentCalls())
+                .isEqualTo(1);
+    }
+
+    private double rejected(String bulkhead) {
+        return meterRegistry.get("product.bulkhead.rejected")
+                .tag("name", bulkhead).counter().count();
+    }
+}
@@ -0,0 +1,142 @@
+package com.akul.microservices.product.monitoring;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import com.akul.microservices.product.model.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.BsonDocument;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.BooleanSupplier;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "product.mongo.slow-query.threshold=0ms",
+        "management.endpoints.web.exposure.include=slowqueries"})
+class MongoMonitoringTests extends AbstractMongoIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SlowQueryListener slowQueryListener;
+
+    @Test
+    void shouldTimeCommandsPoolWaitsAndCallSites() {
+        insert("MON-1");
+
+        given()
+                .get("/api/v1/products/MON-1")
+                .then()
+                .statusCode(200);
+
+        assertThat(meterRegistry.get("mongodb.driver.commands")
+                .tag("command", "find").tag("collection", "product")
+                .timer().count()).isPositive();
+        assertThat(meterRegistry.get("mongodb.driver.pool.wait")
+                .tag("outcome", "success").timer().count()).isPositive();
+        assertThat(meterRegistry.get("mongodb.driver.pool.checkedout")
+                .gauge()).isNotNull();
+        assertThat(meterRegistry.get("product.public.reads")
+                .tag("method", "findPublicProductBySku")
+                .timer().count()).isPositive();
+        assertThat(meterRegistry.get("product.service")
+                .tag("method", "getPublicProductBySku")
+                .timer().count()).isPositive();
+    }
+
+    @Test
+    void shouldTimeExportUntilTheStreamIsClosed() {
+        insert("MON-EXP");
+        long before = exports();
+
+        given()
+                .get("/api/v1/products/export")
+                .then()
+                .statusCode(200);
+
+        // recorded when the cursor stream is closed, after the last batch
+        assertThat(eventually(() -> exports() == before + 1)).isTrue();
+    }
+
+    @Test
+    void shouldCaptureSlowQueriesWithShapeAndPlan() {
+        insert("MON-2");
+
+        given()
+                .get("/api/v1/products/MON-2")
+                .then()
+                .statusCode(200);
+
+        assertThat(eventually(() -> slowQueryListener.recent().stream()
+                .anyMatch(query -> query.shape() != null
+                        && query.shape().contains("\"sku\": \"?\"")
+                        && query.plan().contains("IXSCAN")))).isTrue();
+        assertThat(slowQueryListener.recent())
+                .noneMatch(query -> String.valueOf(query.shape())
+                        .contains("MON-2"));
+
+        given()
+                .get("/actuator/slowqueries")
+                .then()
+                .statusCode(200)
+                .body("collection", Matchers.hasItem("product"))
+                .body("command", Matchers.hasItem("find"));
+    }
+
+    @Test
+    void shouldMaskLiteralsInQueryShape() {
+        BsonDocument find = BsonDocument.parse("""
+                { "find": "product",
+                  "filter": { "sku": { "$in": ["A", "B", "C"] },
+                              "$or": [ { "enabled": true },
+                                       { "price": { "$gte": 10 } } ] },
+                  "sort": { "sku": 1 }, "limit": 12 }
+                """);
+
+        assertThat(QueryShape.of("find", find)).isEqualTo(
+                "{\"filter\": {\"sku\": {\"$in\": \"?\"}, \"$or\": "
+                        + "[{\"enabled\": \"?\"}, {\"price\": "
+                        + "{\"$gte\": \"?\"}}]}, \"sort\": {\"sku\": 1}}");
+        assertThat(QueryShape.of("insert", find)).isNull();
+    }
+
+    private long exports() {
+        Timer export = meterRegistry.find("product.public.reads")
+                .tag("method", "export").timer();
+        return export == null ? 0 : export.count();
+    }
+
+    private void insert(String sku) {
+        Instant now = Instant.now();
+        mongoTemplate.insert(Product.builder().sku(sku).name("Name " + sku)
+                .price(new BigDecimal("10")).createdAt(now).updatedAt(now)
+                .enabled(true).build());
+    }
+
+    private static boolean eventually(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+}
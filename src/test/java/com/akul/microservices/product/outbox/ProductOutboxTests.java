@@ -0,0 +1,223 @@
+package com.akul.microservices.product.outbox;
+
+import com.akul.microservices.product.AbstractMongoIntegrationTest;
+import com.akul.microservices.product.dto.ProductRequest;
+import com.akul.microservices.product.dto.ProductUpdateRequest;
+import com.akul.microservices.product.service.ProductService;
+import com.mongodb.client.model.ReplaceOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "product.outbox.enabled=true",
+        "product.outbox.sink=memory",
+        "product.outbox.poll-interval=100ms"
+})
+class ProductOutboxTests extends AbstractMongoIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(15);
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OutboxSink outboxSink;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private InMemoryOutboxSink sink;
+
+    @BeforeEach
+    void clearSink() {
+        sink = (InMemoryOutboxSink) outboxSink;
+        sink.clear();
+    }
+
+    @Test
+    void shouldPublishEveryWriteInCommitOrder() {
+        given()
+                .contentType("application/json")
+                .body("""
+                        { "sku": "OB-1", "name": "Original", "price": 10 }
+                        """)
+                .post("/api/v1/admin/products")
+                .then()
+                .statusCode(201);
+        productService.updateAdminProduct("OB-1", new ProductUpdateRequest(
+                "Renamed", null, BigDecimal.valueOf(12)));
+        productService.disableProduct("OB-1");
+        productService.enableProduct("OB-1");
+        productService.deleteProducts(List.of("OB-1"));
+
+        assertThat(eventually(() -> sink.events().size() >= 5)).isTrue();
+        List<OutboxEvent> events = sink.events();
+        assertThat(events).extracting(OutboxEvent::getType).containsExactly(
+                OutboxEventType.CREATED, OutboxEventType.UPDATED,
+                OutboxEventType.DISABLED, OutboxEventType.ENABLED,
+                OutboxEventType.DELETED);
+        assertThat(events).extracting(OutboxEvent::getSequence)
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(events.get(1).getProduct().name()).isEqualTo("Renamed");
+        assertThat(events.get(3).getProduct()).isNull();
+        assertThat(eventually(() -> pending() == 0)).isTrue();
+    }
+
+    @Test
+    void shouldNotRecordEventsOfFailedWrites() {
+        given()
+                .contentType("application/json")
+                .body("""
+                        { "name": "Nobody", "price": 1 }
+                        """)
+                .put("/api/v1/admin/products/OB-MISSING")
+                .then()
+                .statusCode(404);
+        productService.createAdminProducts(List.of(
+                new ProductRequest("OB-2", "Two", null, BigDecimal.ONE),
+                new ProductRequest("OB-2", "Again", null, BigDecimal.ONE),
+                new ProductRequest("", "Invalid", null, BigDecimal.ONE)));
+
+        assertThat(eventually(() -> !sink.events().isEmpty())).isTrue();
+        assertThat(mongoTemplate.count(new Query(), OutboxEvent.class))
+                .isEqualTo(1);
+        assertThat(sink.events()).singleElement()
+                .extracting(OutboxEvent::getSku).isEqualTo("OB-2");
+    }
+
+    @Test
+    void shouldRedeliverBatchRejectedBySink() {
+        double failuresBefore = failures();
+        sink.failNext(2);
+
+        productService.createAdminProduct(
+                new ProductRequest("OB-3", "Three", null, BigDecimal.TEN));
+
+        assertThat(eventually(() -> !sink.events().isEmpty())).isTrue();
+        assertThat(failures() - failuresBefore).isGreaterThanOrEqualTo(2);
+        assertThat(sink.events()).extracting(OutboxEvent::getSku)
+                .containsExactly("OB-3");
+        assertThat(eventually(() -> pending() == 0)).isTrue();
+    }
+
+    @Test
+    void shouldKeepEventsPendingWhileAnotherReplicaHoldsTheLease() {
+        mongoTemplate.getCollection(OutboxPublisher.LEASE_COLLECTION)
+                .replaceOne(new Document("_id", "publisher"),
+                        new Document("owner", "other-node").append(
+                                "expiresAt", Date.from(
+                                        Instant.now().plusSeconds(2))),
+                        new ReplaceOptions().upsert(true));
+
+        productService.createAdminProduct(
+                new ProductRequest("OB-4", "Four", null, BigDecimal.TEN));
+
+        assertThat(eventually(() -> !sink.events().isEmpty(),
+                Duration.ofSeconds(1))).isFalse();
+        assertThat(pending()).isEqualTo(1);
+        // the other node stops renewing; its lease expires and is taken
+        assertThat(eventually(() -> pending() == 0)).isTrue();
+        assertThat(sink.events()).extracting(OutboxEvent::getSku)
+                .containsExactly("OB-4");
+    }
+
+    @Test
+    void shouldOrderConcurrentWritesOfOneSku() throws Exception {
+        List<String> skus = List.of("OB-C1", "OB-C2", "OB-C3");
+        for (String sku : skus) {
+            productService.createAdminProduct(new ProductRequest(
+                    sku, "v0", null, BigDecimal.ONE));
+        }
+
+        int writesPerSku = 20;
+        try (ExecutorService writers =
+                     Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 1; i <= writesPerSku; i++) {
+                String name = "v" + i;
+                for (String sku : skus) {
+                    futures.add(writers.submit(() ->
+                            productService.updateAdminProduct(sku,
+                                    new ProductUpdateRequest(name, null,
+                                            BigDecimal.ONE))));
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        int expected = skus.size() * (writesPerSku + 1);
+        assertThat(eventually(() -> sink.events().size() >= expected))
+                .isTrue();
+        List<OutboxEvent> events = sink.events();
+        assertThat(events).extracting(OutboxEvent::getSequence)
+                .containsExactlyElementsOf(LongStream
+                        .rangeClosed(1, expected).boxed().toList());
+
+        // the last event of every SKU carries the state that won
+        Map<String, String> lastNames = events.stream().collect(
+                Collectors.toMap(OutboxEvent::getSku,
+                        event -> event.getProduct().name(),
+                        (first, second) -> second));
+        for (String sku : skus) {
+            assertThat(lastNames.get(sku)).isEqualTo(
+                    productService.getAdminProduct(sku).name());
+        }
+    }
+
+    private long pending() {
+        return mongoTemplate.count(
+                Query.query(Criteria.where("publishedAt").is(null)),
+                OutboxEvent.class);
+    }
+
+    private double failures() {
+        return meterRegistry.get("product.outbox.failures").counter()
+                .count();
+    }
+
+    private static boolean eventually(BooleanSupplier condition) {
+        return eventually(condition, TIMEOUT);
+    }
+
+    private static boolean eventually(BooleanSupplier condition,
+                                      Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+}
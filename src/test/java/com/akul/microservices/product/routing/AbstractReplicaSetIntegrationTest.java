@@ -0,0 +1,214 @@
+package com.akul.microservices.product.routing;
+
+import com.github.dockerjava.api.model.ExposedPort;
+import com.github.dockerjava.api.model.PortBinding;
+import com.github.dockerjava.api.model.Ports;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import io.restassured.RestAssured;
+import org.bson.BsonValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.Container;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Three-member replica set ({@code rs0}) in one container: one primary
+ * and two secondaries that can never be elected. Members announce
+ * themselves as {@code localhost:<port>}, so the container binds the same
+ * ports on the host; change {@code -Dreplica-set.base-port} if 27117-27119
+ * are taken. Needs a local Docker daemon; run with
+ * {@code ./mvnw test -Preplica-set}.
+ *
+ * @author Andrii Kulynych
+ * @since 4/9/2026
+ */
+@Tag("replica-set")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(AbstractReplicaSetIntegrationTest.ReadRecorder.Config.class)
+abstract class AbstractReplicaSetIntegrationTest {
+
+    protected static final int PRIMARY_PORT =
+            Integer.getInteger("replica-set.base-port", 27117);
+    private static final int MEMBERS = 3;
+
+    private static final GenericContainer<?> MONGO =
+            new GenericContainer<>(DockerImageName.parse("mongo:7.0.5"))
+                    .withCommand("bash", "-c", startMembers())
+                    .withCreateContainerCmdModifier(cmd -> {
+                        List<PortBinding> bindings = ports()
+                                .mapToObj(port -> new PortBinding(
+                                        Ports.Binding.bindPort(port),
+                                        new ExposedPort(port)))
+                                .toList();
+                        cmd.withExposedPorts(bindings.stream()
+                                .map(PortBinding::getExposedPort)
+                                .toList());
+                        cmd.getHostConfig().withPortBindings(bindings);
+                    });
+
+    static {
+        MONGO.start();
+        initiate();
+    }
+
+    @LocalServerPort
+    protected Integer port;
+
+    @Autowired
+    protected ReadRecorder reads;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", () -> ports()
+                .mapToObj(port -> "localhost:" + port)
+                .collect(Collectors.joining(",", "mongodb://",
+                        "/product-service?replicaSet=rs0")));
+    }
+
+    @BeforeEach
+    void resetReads() {
+        reads.clear();
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+    }
+
+    private static IntStream ports() {
+        return IntStream.range(PRIMARY_PORT, PRIMARY_PORT + MEMBERS);
+    }
+
+    private static String startMembers() {
+        return ports().mapToObj(port -> ("mkdir -p /data/rs%1$d && mongod "
+                        + "--replSet rs0 --port %1$d --bind_ip_all "
+                        + "--dbpath /data/rs%1$d --fork "
+                        + "--logpath /data/rs%1$d.log").formatted(port))
+                .collect(Collectors.joining(" && ", "",
+                        " && tail -f /dev/null"));
+    }
+
+    private static void initiate() {
+        String members = ports().mapToObj(port ->
+                        "{_id: %d, host: 'localhost:%d', priority: %d}"
+                                .formatted(port - PRIMARY_PORT, port,
+                                        port == PRIMARY_PORT ? 1 : 0))
+                .collect(Collectors.joining(", "));
+        await("db.runCommand({ping: 1}).ok", "1");
+        mongosh("rs.initiate({_id: 'rs0', members: [" + members + "]})");
+        await("rs.status().members.every(m => m.state === 1 "
+                + "|| m.state === 2)", "true");
+    }
+
+    private static void await(String expression, String expected) {
+        long deadline = System.nanoTime() + 60_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            if (mongosh(expression).getStdout().trim().equals(expected)) {
+                return;
+            }
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new IllegalStateException("Replica set not ready: "
+                + expression);
+    }
+
+    private static Container.ExecResult mongosh(String expression) {
+        try {
+            return MONGO.execInContainer("mongosh", "--quiet", "--port",
+                    String.valueOf(PRIMARY_PORT), "--eval", expression);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Records which member served each read of the product collection.
+     */
+    static class ReadRecorder implements CommandListener {
+
+        private static final Set<String> READS =
+                Set.of("find", "aggregate", "count");
+
+        private final List<Read> reads = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void commandStarted(CommandStartedEvent event) {
+            BsonValue collection =
+                    event.getCommand().get(event.getCommandName());
+            if (READS.contains(event.getCommandName())
+                    && collection != null && collection.isString()
+                    && "product".equals(collection.asString().getValue())) {
+                reads.add(new Read(event.getCommandName(),
+                        event.getCommand().toJson(),
+                        event.getConnectionDescription().getServerAddress()
+                                .getPort()));
+            }
+        }
+
+        void clear() {
+            reads.clear();
+        }
+
+        /**
+         * @return reads whose command mentions {@code text}, e.g. a SKU
+         */
+        List<Read> mentioning(String text) {
+            return reads.stream()
+                    .filter(read -> read.command().contains(text))
+                    .toList();
+        }
+
+        List<Read> all() {
+            return List.copyOf(reads);
+        }
+
+        record Read(String name, String command, int port) {
+
+            boolean onPrimary() {
+                return port == PRIMARY_PORT;
+            }
+
+            boolean causal() {
+                return command.contains("afterClusterTime");
+            }
+        }
+
+        @TestConfiguration(proxyBeanMethods = false)
+        static class Config {
+
+            @Bean
+            ReadRecorder readRecorder() {
+                return new ReadRecorder();
+            }
+
+            @Bean
+            MongoClientSettingsBuilderCustomizer readRecorderCustomizer(
+                    ReadRecorder recorder) {
+                return builder -> builder.addCommandListener(recorder);
+            }
+        }
+    }
+}
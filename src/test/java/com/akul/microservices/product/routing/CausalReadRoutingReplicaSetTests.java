@@ -0,0 +1,38 @@
+package com.akul.microservices.product.routing;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "product.read-routing.causal-sessions=true")
+class CausalReadRoutingReplicaSetTests
+        extends AbstractReplicaSetIntegrationTest {
+
+    @Test
+    void shouldReadOwnWritesFromSecondaryInCausalSession() {
+        given()
+                .contentType("application/json")
+                .body("""
+                        { "sku": "RS-CAUSAL", "name": "Causal", "price": 9 }
+                        """)
+                .post("/api/v1/admin/products")
+                .then()
+                .statusCode(201);
+
+        given()
+                .get("/api/v1/products/RS-CAUSAL")
+                .then()
+                .statusCode(200)
+                .body("name", Matchers.equalTo("Causal"));
+
+        // the existence check and insert go to the primary, the public
+        // read waits on a secondary for the insert's operation time
+        assertThat(reads.mentioning("RS-CAUSAL"))
+                .filteredOn(ReadRecorder.Read::causal)
+                .isNotEmpty()
+                .noneMatch(ReadRecorder.Read::onPrimary);
+    }
+}
@@ -0,0 +1,84 @@
+package com.akul.microservices.product.routing;
+
+import com.mongodb.WriteConcern;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Date;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "product.read-routing.fresh-window=2s")
+class ReadRoutingReplicaSetTests extends AbstractReplicaSetIntegrationTest {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    void shouldServePublicReadsFromSecondaries() {
+        // acknowledged by every member, so any secondary has it
+        Date now = new Date();
+        mongoTemplate.getCollection("product")
+                .withWriteConcern(new WriteConcern(3))
+                .insertOne(new Document("sku", "RS-STALE")
+                        .append("name", "Replicated")
+                        .append("price", new Decimal128(5))
+                        .append("enabled", true).append("createdAt", now)
+                        .append("updatedAt", now));
+
+        given()
+                .get("/api/v1/products/RS-STALE")
+                .then()
+                .statusCode(200)
+                .body("name", Matchers.equalTo("Replicated"));
+        given()
+                .get("/api/v1/products?page=20&size=12")
+                .then()
+                .statusCode(200);
+        given()
+                .get("/api/v1/products/export")
+                .then()
+                .statusCode(200);
+
+        assertThat(reads.mentioning("RS-STALE")).isNotEmpty()
+                .noneMatch(ReadRecorder.Read::onPrimary);
+        assertThat(reads.all()).filteredOn(read ->
+                        read.command().contains("\"skip\""))
+                .isNotEmpty()
+                .noneMatch(ReadRecorder.Read::onPrimary);
+        assertThat(reads.all()).filteredOn(read ->
+                        read.command().contains("\"batchSize\""))
+                .noneMatch(ReadRecorder.Read::onPrimary);
+    }
+
+    @Test
+    void shouldReadOwnWritesAndAdminDataFromPrimary() {
+        given()
+                .contentType("application/json")
+                .body("""
+                        { "sku": "RS-FRESH", "name": "Fresh", "price": 7 }
+                        """)
+                .post("/api/v1/admin/products")
+                .then()
+                .statusCode(201);
+
+        given()
+                .get("/api/v1/products/RS-FRESH")
+                .then()
+                .statusCode(200)
+                .body("name", Matchers.equalTo("Fresh"));
+        given()
+                .get("/api/v1/admin/products/RS-FRESH")
+                .then()
+                .statusCode(200);
+
+        assertThat(reads.mentioning("RS-FRESH")).isNotEmpty()
+                .allMatch(ReadRecorder.Read::onPrimary);
+    }
+}
@@ -0,0 +1,87 @@
+package com.akul.microservices.product.support;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the CRUD commands the application sends to Mongo, so tests can
+ * assert round trips. Handshake and monitoring commands are ignored.
+ *
+ * @author Andrii Kulynych
+ * @since 2/2/2026
+ */
+public class MongoCommandCounter implements CommandListener {
+
+    private static final Set<String> COUNTED = Set.of("find", "insert",
+            "update", "delete", "findAndModify", "aggregate", "count");
+
+    private final List<String> commands = new CopyOnWriteArrayList<>();
+    private final AtomicLong replyBytes = new AtomicLong();
+    private volatile boolean measureReplies;
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (COUNTED.contains(event.getCommandName())) {
+            commands.add(event.getCommandName());
+        }
+    }
+
+    /**
+     * Adds the BSON size of each counted reply while
+     * {@link #measureReplies(boolean)} is on. Re-encoding the reply
+     * allocates on the calling thread, hence off by default.
+     */
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        if (measureReplies && COUNTED.contains(event.getCommandName())) {
+            replyBytes.addAndGet(new RawBsonDocument(event.getResponse(),
+                    new BsonDocumentCodec()).getByteBuffer().remaining());
+        }
+    }
+
+    public void reset() {
+        commands.clear();
+        replyBytes.set(0);
+    }
+
+    public void measureReplies(boolean enabled) {
+        this.measureReplies = enabled;
+    }
+
+    public long replyBytes() {
+        return replyBytes.get();
+    }
+
+    public List<String> commands() {
+        return List.copyOf(commands);
+    }
+
+    /**
+     * Registers the counter on the application's Mongo client.
+     */
+    @TestConfiguration(proxyBeanMethods = false)
+    public static class Config {
+
+        @Bean
+        MongoCommandCounter mongoCommandCounter() {
+            return new MongoCommandCounter();
+        }
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer commandCounterCustomizer(
+                MongoCommandCounter counter) {
+            return builder -> builder.addCommandListener(counter);
+        }
+    }
+}